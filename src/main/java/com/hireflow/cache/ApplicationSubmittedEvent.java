@@ -0,0 +1,7 @@
+package com.hireflow.cache;
+
+/**
+ * Published by {@code ApplicationService} when a job seeker applies to a job.
+ */
+public record ApplicationSubmittedEvent(Long jobId, Long companyId, String applicantEmail) {
+}
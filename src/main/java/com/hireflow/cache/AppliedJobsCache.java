@@ -0,0 +1,83 @@
+package com.hireflow.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hireflow.repository.ApplicationRepository;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongPredicate;
+
+/**
+ * The ids of the jobs each recently active job seeker has applied to, as a compressed
+ * bitmap per user, loaded with one query on first use.
+ * <p>
+ * Bitmaps are never mutated: an application swaps in a copy with the job added. The swap
+ * goes through Caffeine's per-key compute, so it waits for a concurrent load and cannot
+ * be overwritten by a result read before the application was committed.
+ * <p>
+ * The cache is per node and {@link ApplicationSubmittedEvent} is only seen by the node
+ * that took the application, so another node may answer from a bitmap without it until
+ * {@code app.applications.applied-cache-max-age-minutes} runs out. Applying twice is still
+ * refused by the database check in {@code ApplicationService}.
+ */
+@Component
+public class AppliedJobsCache {
+
+    private final ApplicationRepository applicationRepository;
+    private final Cache<String, Roaring64Bitmap> appliedByEmail;
+
+    public AppliedJobsCache(ApplicationRepository applicationRepository,
+                            @Value("${app.applications.applied-cache-users:10000}") long maxUsers,
+                            @Value("${app.applications.applied-cache-idle-minutes:30}") long idleMinutes,
+                            @Value("${app.applications.applied-cache-max-age-minutes:5}") long maxAgeMinutes) {
+        this.applicationRepository = applicationRepository;
+        this.appliedByEmail = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .expireAfterWrite(Duration.ofMinutes(maxAgeMinutes))
+                .build();
+    }
+
+    /** Whether the user applied to each of the jobs, in the order given. */
+    public Map<Long, Boolean> applied(String email, Collection<Long> jobIds) {
+        Roaring64Bitmap applied = appliedByEmail.get(email, this::load);
+        Map<Long, Boolean> result = new LinkedHashMap<>();
+        for (Long jobId : jobIds) {
+            result.put(jobId, applied.contains(jobId));
+        }
+        return result;
+    }
+
+    public boolean applied(String email, long jobId) {
+        return appliedByEmail.get(email, this::load).contains(jobId);
+    }
+
+    /** Tests job ids against the user's applications as of this call; later applications are not seen. */
+    public LongPredicate appliedTo(String email) {
+        return appliedByEmail.get(email, this::load)::contains;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationSubmitted(ApplicationSubmittedEvent event) {
+        appliedByEmail.asMap().computeIfPresent(event.applicantEmail(), (email, applied) -> {
+            Roaring64Bitmap updated = applied.clone();
+            updated.addLong(event.jobId());
+            updated.runOptimize();
+            return updated;
+        });
+    }
+
+    private Roaring64Bitmap load(String email) {
+        Roaring64Bitmap applied = new Roaring64Bitmap();
+        applicationRepository.findJobIdsByApplicantEmail(email).forEach(applied::addLong);
+        applied.runOptimize();
+        return applied;
+    }
+}
@@ -0,0 +1,102 @@
+package com.hireflow.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hireflow.dto.response.ApiResponse;
+import com.hireflow.entity.Job;
+import com.hireflow.entity.User;
+import com.hireflow.repository.ApplicationRepository;
+import com.hireflow.repository.JobRepository;
+import com.hireflow.search.JobChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Company dashboard counters, a handful of longs per company.
+ * <p>
+ * A snapshot is loaded with two aggregate queries. New applications are counted into
+ * it as they are submitted; any change to one of the company's jobs drops it, so the
+ * next read reloads the job counts. "New this week" is a sliding window the increments
+ * cannot shrink, so snapshots also expire after a while.
+ * <p>
+ * Snapshots are per node, and the events only reach the node that handled the write, so
+ * another node's dashboard may lag by up to {@code app.dashboard.cache-ttl-minutes}.
+ */
+@Component
+public class CompanyStatsCache {
+
+    private static final int NEW_APPLICATION_DAYS = 7;
+
+    private final JobRepository jobRepository;
+    private final ApplicationRepository applicationRepository;
+    private final Cache<Long, Snapshot> snapshots;
+
+    public CompanyStatsCache(JobRepository jobRepository,
+                             ApplicationRepository applicationRepository,
+                             @Value("${app.dashboard.cache-companies:10000}") long maxCompanies,
+                             @Value("${app.dashboard.cache-ttl-minutes:10}") long ttlMinutes) {
+        this.jobRepository = jobRepository;
+        this.applicationRepository = applicationRepository;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxCompanies)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    private static final class Snapshot {
+        long totalJobs;
+        long activeJobs;
+        long closedJobs;
+        final AtomicLong totalApplications = new AtomicLong();
+        final AtomicLong newApplications = new AtomicLong();
+    }
+
+    public ApiResponse.DashboardStats get(User company) {
+        Snapshot snapshot = snapshots.get(company.getId(), id -> load(company));
+        return ApiResponse.DashboardStats.builder()
+                .totalJobs(snapshot.totalJobs)
+                .activeJobs(snapshot.activeJobs)
+                .closedJobs(snapshot.closedJobs)
+                .totalApplications(snapshot.totalApplications.get())
+                .newApplicationsThisWeek(snapshot.newApplications.get())
+                .build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationSubmitted(ApplicationSubmittedEvent event) {
+        // computeIfPresent waits for a load in flight, which may not have seen this application
+        snapshots.asMap().computeIfPresent(event.companyId(), (id, snapshot) -> {
+            snapshot.totalApplications.incrementAndGet();
+            snapshot.newApplications.incrementAndGet();
+            return snapshot;
+        });
+    }
+
+    /** Drops the company's snapshot on this node, after its counts were changed outside the events above. */
+    public void invalidate(Long companyId) {
+        snapshots.invalidate(companyId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        snapshots.invalidate(event.companyId());
+    }
+
+    private Snapshot load(User company) {
+        Snapshot snapshot = new Snapshot();
+        for (JobRepository.StatusCount row : jobRepository.countByStatusForCompany(company)) {
+            snapshot.totalJobs += row.getJobs();
+            if (row.getStatus() == Job.JobStatus.ACTIVE) snapshot.activeJobs = row.getJobs();
+            if (row.getStatus() == Job.JobStatus.CLOSED) snapshot.closedJobs = row.getJobs();
+            snapshot.totalApplications.addAndGet(row.getApplications());
+        }
+        snapshot.newApplications.set(applicationRepository.countNewApplicationsForCompany(
+                company, LocalDateTime.now().minusDays(NEW_APPLICATION_DAYS)));
+        return snapshot;
+    }
+}
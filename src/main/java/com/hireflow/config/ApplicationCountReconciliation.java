@@ -0,0 +1,75 @@
+package com.hireflow.config;
+
+import com.hireflow.cache.CompanyStatsCache;
+import com.hireflow.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Resets {@code jobs.application_count} to the real number of applications wherever they
+ * differ: once per database at startup, which fills the column for jobs written before it
+ * existed, and then on a schedule to repair any drift. Scheduled runs take a lease so only
+ * one node scans. Drifted jobs are locked while their count is recomputed, so an application
+ * submitted meanwhile is either counted or increments the repaired value afterwards.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class ApplicationCountReconciliation {
+
+    private static final int BATCH_SIZE = 500;
+    private static final Duration LEASE = Duration.ofHours(1);
+
+    private final JobRepository jobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StartupMigrations startupMigrations;
+    private final ScheduledLocks scheduledLocks;
+    private final CompanyStatsCache companyStatsCache;
+
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    CommandLineRunner fillApplicationCounts() {
+        return args -> startupMigrations.runOnce("application-counts", this::reconcile);
+    }
+
+    @Scheduled(cron = "${app.jobs.application-count-reconcile-cron:0 30 3 * * *}")
+    public void reconcile() {
+        scheduledLocks.runLocked("application-count-reconciliation", LEASE, this::repairDriftedCounts);
+    }
+
+    private record BatchRepair(int jobs, Set<Long> companyIds) {
+    }
+
+    private void repairDriftedCounts() {
+        List<Long> drifted = jobRepository.findIdsWithDriftedApplicationCount();
+        int repaired = 0;
+        for (int from = 0; from < drifted.size(); from += BATCH_SIZE) {
+            List<Long> batch = drifted.subList(from, Math.min(from + BATCH_SIZE, drifted.size()));
+            BatchRepair repair = transactionTemplate.execute(status -> {
+                Set<Long> companyIds = jobRepository.lockByIdIn(batch).stream()
+                        .map(job -> job.getCompany().getId())
+                        .collect(Collectors.toSet());
+                return new BatchRepair(jobRepository.reconcileApplicationCounts(batch), companyIds);
+            });
+            if (repair == null || repair.jobs() == 0) continue;
+            // other nodes keep their cached dashboards until app.dashboard.cache-ttl-minutes runs out
+            repair.companyIds().forEach(companyStatsCache::invalidate);
+            repaired += repair.jobs();
+        }
+        if (repaired > 0) {
+            log.warn("Application count reconciliation: repaired {} jobs", repaired);
+        }
+    }
+}
@@ -4,12 +4,15 @@ import com.hireflow.entity.Job;
 import com.hireflow.entity.User;
 import com.hireflow.repository.JobRepository;
 import com.hireflow.repository.UserRepository;
+import com.hireflow.skill.SkillDictionary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDateTime;
@@ -23,8 +26,10 @@ public class DataSeeder {
     private final UserRepository userRepository;
     private final JobRepository jobRepository;
     private final PasswordEncoder passwordEncoder;
+    private final SkillDictionary skillDictionary;
 
     @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
     CommandLineRunner seedData() {
         return args -> {
             if (userRepository.count() > 0) {
@@ -44,7 +49,7 @@ public class DataSeeder {
                     .bio("Passionate developer with 3 years of experience in React and Node.js.")
                     .location("San Francisco, CA")
                     .phone("+1 (555) 000-0000")
-                    .skills(List.of("React", "Node.js", "TypeScript", "PostgreSQL"))
+                    .skills(skillDictionary.canonicalize(List.of("React", "Node.js", "TypeScript", "PostgreSQL")))
                     .isActive(true)
                     .build();
             userRepository.save(jobSeeker);
@@ -75,7 +80,7 @@ public class DataSeeder {
                     .type(Job.JobType.FULL_TIME)
                     .level(Job.JobLevel.SENIOR)
                     .category(Job.JobCategory.ENGINEERING)
-                    .skills(List.of("React", "TypeScript", "Redux", "Node.js", "GraphQL"))
+                    .skills(skillDictionary.canonicalize(List.of("React", "TypeScript", "Redux", "Node.js", "GraphQL")))
                     .benefits(List.of("Health Insurance", "Remote Options", "401k", "Stock Options"))
                     .deadline(LocalDateTime.now().plusDays(30))
                     .status(Job.JobStatus.ACTIVE)
@@ -91,7 +96,7 @@ public class DataSeeder {
                     .type(Job.JobType.REMOTE)
                     .level(Job.JobLevel.MID_LEVEL)
                     .category(Job.JobCategory.DESIGN)
-                    .skills(List.of("Figma", "Prototyping", "User Research", "Design Systems", "CSS"))
+                    .skills(skillDictionary.canonicalize(List.of("Figma", "Prototyping", "User Research", "Design Systems", "CSS")))
                     .benefits(List.of("Fully Remote", "Health Insurance", "Learning Budget", "Flexible Hours"))
                     .deadline(LocalDateTime.now().plusDays(25))
                     .status(Job.JobStatus.ACTIVE)
@@ -107,7 +112,7 @@ public class DataSeeder {
                     .type(Job.JobType.FULL_TIME)
                     .level(Job.JobLevel.MID_LEVEL)
                     .category(Job.JobCategory.ENGINEERING)
-                    .skills(List.of("Node.js", "PostgreSQL", "Docker", "AWS", "Redis"))
+                    .skills(skillDictionary.canonicalize(List.of("Node.js", "PostgreSQL", "Docker", "AWS", "Redis")))
                     .benefits(List.of("Health Insurance", "Dental", "401k", "Gym Membership"))
                     .deadline(LocalDateTime.now().plusDays(21))
                     .status(Job.JobStatus.ACTIVE)
@@ -123,7 +128,7 @@ public class DataSeeder {
                     .type(Job.JobType.FULL_TIME)
                     .level(Job.JobLevel.MID_LEVEL)
                     .category(Job.JobCategory.DATA)
-                    .skills(List.of("Python", "ML", "SQL", "TensorFlow", "Pandas"))
+                    .skills(skillDictionary.canonicalize(List.of("Python", "ML", "SQL", "TensorFlow", "Pandas")))
                     .benefits(List.of("Health Insurance", "Remote Options", "401k"))
                     .deadline(LocalDateTime.now().plusDays(14))
                     .status(Job.JobStatus.ACTIVE)
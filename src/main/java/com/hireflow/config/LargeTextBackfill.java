@@ -0,0 +1,131 @@
+package com.hireflow.config;
+
+import com.hireflow.entity.LargeText;
+import com.hireflow.repository.LargeTextRepository;
+import com.hireflow.util.CompressedTextConverter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves job descriptions and requirements, cover letters, company notes, bios and company
+ * descriptions from the TEXT columns older versions kept in the owning row into
+ * {@code large_texts}. Runs right after {@link DataSeeder}, before anything loads the
+ * entities. Each batch is read back from {@code large_texts} and compared with the
+ * original before the owners are pointed at it; once every value of a column has been
+ * moved, the old column is dropped.
+ */
+@Slf4j
+@Configuration
+public class LargeTextBackfill {
+
+    private static final int BATCH_SIZE = 500;
+
+    private record TextColumn(String table, String column, String reference) {
+    }
+
+    private record Row(long id, String text) {
+    }
+
+    private static final List<TextColumn> TEXT_COLUMNS = List.of(
+            new TextColumn("jobs", "description", "description_text_id"),
+            new TextColumn("jobs", "requirements", "requirements_text_id"),
+            new TextColumn("applications", "cover_letter", "cover_letter_text_id"),
+            new TextColumn("applications", "company_notes", "company_notes_text_id"),
+            new TextColumn("users", "bio", "bio_text_id"),
+            new TextColumn("users", "company_description", "company_description_text_id"));
+
+    // the format marker tells how a value is stored, so the threshold only matters for writing
+    private final CompressedTextConverter storedText = new CompressedTextConverter(0);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate batchReader;
+    private final LargeTextRepository largeTextRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StartupMigrations startupMigrations;
+
+    public LargeTextBackfill(JdbcTemplate jdbcTemplate,
+                             LargeTextRepository largeTextRepository,
+                             PlatformTransactionManager transactionManager,
+                             StartupMigrations startupMigrations) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchReader = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.batchReader.setMaxRows(BATCH_SIZE);
+        this.largeTextRepository = largeTextRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.startupMigrations = startupMigrations;
+    }
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    CommandLineRunner backfillLargeTexts() {
+        return args -> startupMigrations.runOnce("large-texts", () -> TEXT_COLUMNS.forEach(this::moveTexts));
+    }
+
+    private void moveTexts(TextColumn text) {
+        if (!TableColumns.of(jdbcTemplate, text.table()).containsKey(text.column())) return;
+
+        String select = "SELECT id, " + text.column() + " FROM " + text.table()
+                + " WHERE " + text.reference() + " IS NULL AND " + text.column() + " IS NOT NULL"
+                + " AND id > ? ORDER BY id";
+        String update = "UPDATE " + text.table() + " SET " + text.reference() + " = ? WHERE id = ?";
+        long lastId = 0;
+        int moved = 0;
+        while (true) {
+            List<Row> rows = batchReader.query(select,
+                    (rs, rowNum) -> new Row(rs.getLong(1), rs.getString(2)), lastId);
+            if (rows.isEmpty()) break;
+            transactionTemplate.executeWithoutResult(status -> {
+                List<LargeText> saved = largeTextRepository.saveAllAndFlush(rows.stream().map(row -> LargeText.of(row.text())).toList());
+                verifyCopies(text, rows, saved);
+                List<Object[]> references = new ArrayList<>(rows.size());
+                for (int i = 0; i < rows.size(); i++) {
+                    references.add(new Object[]{saved.get(i).getId(), rows.get(i).id()});
+                }
+                jdbcTemplate.batchUpdate(update, references);
+            });
+            lastId = rows.get(rows.size() - 1).id();
+            moved += rows.size();
+        }
+        if (moved > 0) {
+            log.info("Large text backfill: moved {} values of {}.{} to large_texts", moved, text.table(), text.column());
+        }
+
+        Integer left = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + text.table()
+                + " WHERE " + text.reference() + " IS NULL AND " + text.column() + " IS NOT NULL", Integer.class);
+        if (left == null || left > 0) {
+            throw new IllegalStateException(left + " values of " + text.table() + "." + text.column()
+                    + " were not moved to large_texts");
+        }
+        jdbcTemplate.execute("ALTER TABLE " + text.table() + " DROP COLUMN " + text.column());
+        log.info("Large text backfill: dropped {}.{}", text.table(), text.column());
+    }
+
+    /** Reads the batch back as stored and fails the transaction unless every value round-trips. */
+    private void verifyCopies(TextColumn text, List<Row> rows, List<LargeText> saved) {
+        Map<Long, String> stored = new HashMap<>();
+        String ids = String.join(",", Collections.nCopies(saved.size(), "?"));
+        jdbcTemplate.query("SELECT id, content FROM large_texts WHERE id IN (" + ids + ")",
+                (RowCallbackHandler) rs -> stored.put(rs.getLong(1), storedText.convertToEntityAttribute(rs.getBytes(2))),
+                saved.stream().map(LargeText::getId).toArray());
+        for (int i = 0; i < rows.size(); i++) {
+            if (!rows.get(i).text().equals(stored.get(saved.get(i).getId()))) {
+                throw new IllegalStateException("Copy of " + text.table() + "." + text.column()
+                        + " for id " + rows.get(i).id() + " does not match the original");
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.hireflow.config;
+
+import com.hireflow.skill.SkillDictionary;
+import com.hireflow.util.StringListConverter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Copies job skills, job benefits and profile skills from the collection tables older
+ * versions used ({@code job_skills}, {@code job_benefits}, {@code user_skills}) into the
+ * encoded list columns. Skill rows may hold a dictionary id ({@code skill_id}), a name
+ * ({@code skill}) or both, depending on the version that wrote them. Runs right after
+ * {@link DataSeeder}, before anything loads the entities, and only once per database:
+ * a list saved as null later must not be refilled from the stale rows of the old tables,
+ * which are left in place.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class ListColumnBackfill {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SkillDictionary skillDictionary;
+    private final StartupMigrations startupMigrations;
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    CommandLineRunner backfillListColumns() {
+        return args -> startupMigrations.runOnce("list-columns", () -> {
+            backfillSkills("job_skills", "job_id", "jobs");
+            backfillSkills("user_skills", "user_id", "users");
+            backfillBenefits();
+        });
+    }
+
+    private void backfillSkills(String table, String ownerColumn, String ownerTable) {
+        Set<String> columns = columnsOf(table);
+        if (columns.isEmpty()) return;
+        boolean hasIds = columns.contains("skill_id");
+        boolean hasNames = columns.contains("skill");
+
+        Map<Long, Set<Integer>> skillIds = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT t." + ownerColumn
+                + (hasIds ? ", t.skill_id" : "") + (hasNames ? ", t.skill" : "")
+                + " FROM " + table + " t JOIN " + ownerTable + " o ON o.id = t." + ownerColumn
+                + " WHERE o.skill_ids IS NULL", rs -> {
+            Set<Integer> ids = skillIds.computeIfAbsent(rs.getLong(ownerColumn), owner -> new LinkedHashSet<>());
+            Integer id = hasIds ? (Integer) JdbcUtils.getResultSetValue(rs, 2, Integer.class) : null;
+            if (id == null && hasNames) {
+                String name = rs.getString("skill");
+                if (name != null && !name.isBlank()) {
+                    try {
+                        id = skillDictionary.register(name);
+                    } catch (IllegalArgumentException e) {
+                        log.debug("Skipping skill '{}': {}", name, e.getMessage());
+                    }
+                }
+            }
+            if (id != null) ids.add(id);
+        });
+        if (skillIds.isEmpty()) return;
+
+        List<Object[]> updates = new ArrayList<>();
+        skillIds.forEach((owner, ids) -> updates.add(new Object[]{
+                String.join(",", ids.stream().map(String::valueOf).toList()), owner}));
+        update("UPDATE " + ownerTable + " SET skill_ids = ? WHERE id = ?", updates);
+        log.info("List column backfill: moved {} skill lists from {}", updates.size(), table);
+    }
+
+    private void backfillBenefits() {
+        if (columnsOf("job_benefits").isEmpty()) return;
+
+        Map<Long, List<String>> benefits = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT t.job_id, t.benefit FROM job_benefits t JOIN jobs o ON o.id = t.job_id"
+                + " WHERE o.benefits IS NULL", rs -> {
+            String benefit = rs.getString("benefit");
+            List<String> values = benefits.computeIfAbsent(rs.getLong("job_id"), job -> new ArrayList<>());
+            if (benefit != null) values.add(benefit);
+        });
+        if (benefits.isEmpty()) return;
+
+        StringListConverter converter = new StringListConverter();
+        List<Object[]> updates = new ArrayList<>();
+        benefits.forEach((job, values) -> updates.add(new Object[]{converter.convertToDatabaseColumn(values), job}));
+        update("UPDATE jobs SET benefits = ? WHERE id = ?", updates);
+        log.info("List column backfill: moved {} benefit lists from job_benefits", updates.size());
+    }
+
+    private void update(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE)));
+        }
+    }
+
+    private Set<String> columnsOf(String table) {
+        return TableColumns.of(jdbcTemplate, table).keySet();
+    }
+}
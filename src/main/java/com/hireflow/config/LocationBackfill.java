@@ -0,0 +1,82 @@
+package com.hireflow.config;
+
+import com.hireflow.entity.GeoLocation;
+import com.hireflow.entity.Job;
+import com.hireflow.entity.User;
+import com.hireflow.geo.Gazetteer;
+import com.hireflow.repository.JobRepository;
+import com.hireflow.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Geocodes job and profile locations saved before they were resolved on write. Runs once;
+ * places the gazetteer does not know stay unresolved and are not retried on later starts.
+ * Rows are read and saved in batches by id, so neither table is held in memory at once.
+ * Runs after {@link DataSeeder} and before the search index loads.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class LocationBackfill {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JobRepository jobRepository;
+    private final UserRepository userRepository;
+    private final Gazetteer gazetteer;
+    private final StartupMigrations startupMigrations;
+
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    CommandLineRunner backfillLocations() {
+        return args -> startupMigrations.runOnce("geocode-locations", () -> {
+            int jobs = geocode(jobRepository::findByGeoLatitudeIsNullAndIdGreaterThan,
+                    Job::getId, Job::getLocation, Job::setGeo, jobRepository::saveAll);
+            int users = geocode(userRepository::findByLocationIsNotNullAndGeoLatitudeIsNullAndIdGreaterThan,
+                    User::getId, User::getLocation, User::setGeo, userRepository::saveAll);
+            if (jobs > 0 || users > 0) {
+                log.info("Location backfill: geocoded {} jobs and {} profiles", jobs, users);
+            }
+        });
+    }
+
+    /** Pages through the unresolved rows by id and saves each batch's resolved ones; returns how many were. */
+    private <T> int geocode(BiFunction<Long, Pageable, Slice<T>> nextBatch, Function<T, Long> id,
+                            Function<T, String> location, BiConsumer<T, GeoLocation> setGeo,
+                            Consumer<List<T>> save) {
+        long lastId = 0L;
+        int resolved = 0;
+        Slice<T> batch;
+        do {
+            batch = nextBatch.apply(lastId, PageRequest.of(0, BATCH_SIZE, Sort.by("id")));
+            List<T> located = new ArrayList<>();
+            for (T row : batch) {
+                lastId = id.apply(row);
+                gazetteer.locate(location.apply(row)).ifPresent(geo -> {
+                    setGeo.accept(row, geo);
+                    located.add(row);
+                });
+            }
+            save.accept(located);
+            resolved += located.size();
+        } while (batch.hasNext());
+        return resolved;
+    }
+}
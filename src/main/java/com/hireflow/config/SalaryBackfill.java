@@ -0,0 +1,66 @@
+package com.hireflow.config;
+
+import com.hireflow.entity.Job;
+import com.hireflow.repository.JobRepository;
+import com.hireflow.util.SalaryParser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Parses the free-text salary of every job once, filling the numeric range of jobs written
+ * before salaries were parsed on write and correcting ranges older parser versions got
+ * wrong. Salaries that cannot be parsed are left without a range and not retried.
+ * Runs after {@link DataSeeder} and before the search index loads.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class SalaryBackfill {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JobRepository jobRepository;
+    private final StartupMigrations startupMigrations;
+
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    CommandLineRunner backfillSalaries() {
+        return args -> startupMigrations.runOnce("salary-ranges", () -> {
+            long lastId = 0L;
+            int total = 0;
+            int changed = 0;
+            Slice<Job> batch;
+            do {
+                batch = jobRepository.findBySalaryIsNotNullAndIdGreaterThan(
+                        lastId, PageRequest.of(0, BATCH_SIZE, Sort.by("id")));
+                List<Job> reparsed = new ArrayList<>();
+                for (Job job : batch) {
+                    lastId = job.getId();
+                    List<Object> before = salaryFields(job);
+                    SalaryParser.applyTo(job);
+                    if (!before.equals(salaryFields(job))) reparsed.add(job);
+                }
+                jobRepository.saveAll(reparsed);
+                total += batch.getNumberOfElements();
+                changed += reparsed.size();
+            } while (batch.hasNext());
+            log.info("Salary backfill: parsed {} job salaries, updated {}", total, changed);
+        });
+    }
+
+    private static List<Object> salaryFields(Job job) {
+        return Arrays.asList(job.getSalaryMin(), job.getSalaryMax(), job.getSalaryCurrency(), job.getSalaryPeriod());
+    }
+}
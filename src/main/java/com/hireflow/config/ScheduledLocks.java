@@ -0,0 +1,62 @@
+package com.hireflow.config;
+
+import com.hireflow.repository.ScheduledLockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Runs a scheduled task on one node at a time. Each run takes a lease on its row in
+ * {@code scheduled_locks} with a conditional UPDATE; nodes that find the lease held skip
+ * the run. The lease is released when the task returns, and expires on its own if the
+ * node dies, so it should be longer than the task ever takes.
+ */
+@Slf4j
+@Component
+public class ScheduledLocks {
+
+    private final String owner = UUID.randomUUID().toString();
+
+    private final ScheduledLockRepository repository;
+    private final TransactionTemplate requiresNew;
+
+    public ScheduledLocks(ScheduledLockRepository repository, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /** Runs the task unless another node holds its lease; returns whether it ran. */
+    public boolean runLocked(String name, Duration lease, Runnable task) {
+        if (!acquire(name, lease)) {
+            log.debug("Scheduled task {} is running on another node", name);
+            return false;
+        }
+        try {
+            task.run();
+        } finally {
+            requiresNew.executeWithoutResult(status -> repository.release(name, owner, LocalDateTime.now()));
+        }
+        return true;
+    }
+
+    private boolean acquire(String name, Duration lease) {
+        if (!repository.existsById(name)) {
+            try {
+                requiresNew.executeWithoutResult(status -> repository.create(name, LocalDateTime.now()));
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Scheduled lock {} was created by another node", name);
+            }
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Integer acquired = requiresNew.execute(status -> repository.acquire(name, owner, now, now.plus(lease)));
+        return acquired != null && acquired == 1;
+    }
+}
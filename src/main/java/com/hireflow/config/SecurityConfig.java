@@ -78,10 +78,14 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                     // Public endpoints
                     .requestMatchers("/api/auth/**").permitAll()
+                    .requestMatchers(HttpMethod.GET, "/api/jobs/recommended").hasRole("JOBSEEKER")
                     .requestMatchers(HttpMethod.GET, "/api/jobs", "/api/jobs/**").permitAll()
                     .requestMatchers("/h2-console/**").permitAll()
                     .requestMatchers("/actuator/health").permitAll()
 
+                    // Operational endpoints (cache stats, search analytics) expose other users' queries
+                    .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                     // Company-only endpoints
                     .requestMatchers(HttpMethod.POST, "/api/jobs").hasRole("COMPANY")
                     .requestMatchers(HttpMethod.PUT, "/api/jobs/**").hasRole("COMPANY")
@@ -91,6 +95,7 @@ public class SecurityConfig {
                     // JobSeeker-only endpoints
                     .requestMatchers("/api/applications/my/**").hasRole("JOBSEEKER")
                     .requestMatchers(HttpMethod.POST, "/api/applications/**").hasRole("JOBSEEKER")
+                    .requestMatchers("/api/saved-searches/**", "/api/alerts/**").hasRole("JOBSEEKER")
 
                     // Authenticated users
                     .anyRequest().authenticated()
@@ -0,0 +1,34 @@
+package com.hireflow.config;
+
+import com.hireflow.entity.StartupMigration;
+import com.hireflow.repository.StartupMigrationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Runs each named startup data migration once per database. Completion is recorded in
+ * {@code startup_migrations} only after the migration returns, so one that fails is
+ * retried on the next start. Nodes starting together may both run it; migrations are
+ * written to be idempotent, and the second record is ignored.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupMigrations {
+
+    private final StartupMigrationRepository repository;
+
+    public void runOnce(String name, Runnable migration) {
+        if (repository.existsById(name)) return;
+        migration.run();
+        try {
+            repository.save(StartupMigration.builder().name(name).completedAt(LocalDateTime.now()).build());
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Startup migration {} was recorded by another node", name);
+        }
+    }
+}
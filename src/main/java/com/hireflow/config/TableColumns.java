@@ -0,0 +1,36 @@
+package com.hireflow.config;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/** Column metadata of existing tables, for the startup migrations of older schemas. */
+final class TableColumns {
+
+    private TableColumns() {
+    }
+
+    /** Lower-case column names of the table mapped to whether they accept NULL; empty when it does not exist. */
+    static Map<String, Boolean> of(JdbcTemplate jdbcTemplate, String table) {
+        return jdbcTemplate.execute((Connection connection) -> {
+            Map<String, Boolean> columns = new HashMap<>();
+            DatabaseMetaData metaData = connection.getMetaData();
+            // identifiers are stored upper case by some databases (H2) and as written by others
+            for (String name : Set.of(table, table.toUpperCase(Locale.ROOT))) {
+                try (ResultSet rs = metaData.getColumns(connection.getCatalog(), null, name, null)) {
+                    while (rs.next()) {
+                        columns.put(rs.getString("COLUMN_NAME").toLowerCase(Locale.ROOT),
+                                rs.getInt("NULLABLE") != DatabaseMetaData.columnNoNulls);
+                    }
+                }
+            }
+            return columns;
+        });
+    }
+}
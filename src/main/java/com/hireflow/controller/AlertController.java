@@ -0,0 +1,39 @@
+package com.hireflow.controller;
+
+import com.hireflow.dto.response.ApiResponse;
+import com.hireflow.service.impl.SavedSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/alerts")
+@RequiredArgsConstructor
+public class AlertController {
+
+    private final SavedSearchService savedSearchService;
+
+    /**
+     * GET /api/alerts?unread=false&page=0&size=20
+     * JobSeeker only: Jobs that matched my saved searches, newest first
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('JOBSEEKER')")
+    public ResponseEntity<ApiResponse.PageResponse<ApiResponse.JobAlertResponse>> getMyAlerts(
+            @RequestParam(defaultValue = "false") boolean unread,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(savedSearchService.getMyAlerts(unread, page, size));
+    }
+
+    /**
+     * PATCH /api/alerts/:id/read
+     * JobSeeker only: Mark an alert as read
+     */
+    @PatchMapping("/{id}/read")
+    @PreAuthorize("hasRole('JOBSEEKER')")
+    public ResponseEntity<ApiResponse.JobAlertResponse> markRead(@PathVariable Long id) {
+        return ResponseEntity.ok(savedSearchService.markAlertRead(id));
+    }
+}
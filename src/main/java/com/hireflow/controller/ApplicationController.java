@@ -42,6 +42,16 @@ public class ApplicationController {
         return ResponseEntity.ok(applicationService.getMyApplications());
     }
 
+    /**
+     * GET /api/applications/check?jobIds=1,2,3
+     * JobSeeker only: Check which of up to 100 jobs I already applied to
+     */
+    @GetMapping("/check")
+    @PreAuthorize("hasRole('JOBSEEKER')")
+    public ResponseEntity<Map<Long, Boolean>> checkAppliedBulk(@RequestParam List<Long> jobIds) {
+        return ResponseEntity.ok(applicationService.hasApplied(jobIds));
+    }
+
     /**
      * GET /api/applications/jobs/:jobId/check
      * JobSeeker only: Check if already applied
@@ -1,9 +1,11 @@
 package com.hireflow.controller;
 
+import com.hireflow.dto.request.CandidateSearchRequest;
 import com.hireflow.dto.response.ApiResponse;
 import com.hireflow.entity.Application;
 import com.hireflow.service.impl.ApplicationService;
 import com.hireflow.service.impl.JobService;
+import com.hireflow.service.impl.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -20,6 +22,7 @@ public class CompanyController {
 
     private final JobService jobService;
     private final ApplicationService applicationService;
+    private final UserService userService;
 
     /**
      * GET /api/company/dashboard
@@ -49,6 +52,18 @@ public class CompanyController {
         return ResponseEntity.ok(applicationService.getApplicationsForJob(jobId));
     }
 
+    /**
+     * GET /api/company/jobs/:jobId/applications?sort=match&page=0&size=20
+     * Applications ranked by applicant fit (skills, level, location), paginated
+     */
+    @GetMapping(value = "/jobs/{jobId}/applications", params = "sort=match")
+    public ResponseEntity<ApiResponse.PageResponse<ApiResponse.ApplicationResponse>> getRankedJobApplications(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(applicationService.rankApplicationsForJob(jobId, page, size));
+    }
+
     /**
      * PATCH /api/company/applications/:id/status
      * Update an application's status
@@ -65,4 +80,14 @@ public class CompanyController {
 
         return ResponseEntity.ok(applicationService.updateStatus(id, status, notes));
     }
+
+    /**
+     * GET /api/company/candidates/search?search=&skills=&location=&page=0&size=20
+     * Search job-seeker profiles by title, skills, bio and location, ranked by relevance
+     */
+    @GetMapping("/candidates/search")
+    public ResponseEntity<ApiResponse.PageResponse<ApiResponse.CandidateResponse>> searchCandidates(
+            CandidateSearchRequest request) {
+        return ResponseEntity.ok(userService.searchCandidates(request));
+    }
 }
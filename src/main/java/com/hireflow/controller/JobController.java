@@ -1,8 +1,10 @@
 package com.hireflow.controller;
 
 import com.hireflow.dto.request.JobRequest;
+import com.hireflow.dto.request.JobSearchRequest;
 import com.hireflow.dto.response.ApiResponse;
 import com.hireflow.service.impl.JobService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -10,6 +12,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.security.Principal;
 import java.util.List;
 
 @RestController
@@ -22,20 +25,34 @@ public class JobController {
     /**
      * GET /api/jobs
      * Public: Browse all active jobs with filters & pagination
+     * Add facets=true to get per-value counts for type, level, category and location
      */
     @GetMapping
     public ResponseEntity<ApiResponse.PageResponse<ApiResponse.JobResponse>> getJobs(
-            @RequestParam(required = false) String search,
-            @RequestParam(required = false) String type,
-            @RequestParam(required = false) String level,
-            @RequestParam(required = false) String category,
-            @RequestParam(required = false) String location,
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            JobSearchRequest request) {
+        return ResponseEntity.ok(jobService.getJobs(request));
+    }
 
-        return ResponseEntity.ok(
-                jobService.getJobs(search, type, level, category, location, page, size)
-        );
+    /**
+     * GET /api/jobs/suggest?prefix=rea
+     * Public: Autocomplete for the search box (titles, skills, locations, companies)
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<ApiResponse.SuggestionResponse>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "8") int limit) {
+        return ResponseEntity.ok(jobService.suggest(prefix, limit));
+    }
+
+    /**
+     * GET /api/jobs/recommended?limit=10
+     * JobSeeker only: Active jobs ranked by skill overlap, level fit and location fit with the profile
+     */
+    @GetMapping("/recommended")
+    @PreAuthorize("hasRole('JOBSEEKER')")
+    public ResponseEntity<List<ApiResponse.RecommendationResponse>> getRecommendedJobs(
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(jobService.getRecommendedJobs(limit));
     }
 
     /**
@@ -43,8 +60,21 @@ public class JobController {
      * Public: Get job detail by ID
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse.JobResponse> getJob(@PathVariable Long id) {
-        return ResponseEntity.ok(jobService.getJobById(id));
+    public ResponseEntity<ApiResponse.JobResponse> getJob(@PathVariable Long id, HttpServletRequest request,
+                                                          Principal principal) {
+        String viewer = principal != null ? "user:" + principal.getName() : "ip:" + request.getRemoteAddr();
+        return ResponseEntity.ok(jobService.getJobById(id, viewer));
+    }
+
+    /**
+     * GET /api/jobs/:id/similar?limit=6
+     * Public: Active jobs most like this one (title, skills and description)
+     */
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<ApiResponse.JobResponse>> getSimilarJobs(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "6") int limit) {
+        return ResponseEntity.ok(jobService.getSimilarJobs(id, limit));
     }
 
     /**
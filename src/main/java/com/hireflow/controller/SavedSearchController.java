@@ -0,0 +1,59 @@
+package com.hireflow.controller;
+
+import com.hireflow.dto.request.SavedSearchRequest;
+import com.hireflow.dto.response.ApiResponse;
+import com.hireflow.service.impl.SavedSearchService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/saved-searches")
+@RequiredArgsConstructor
+public class SavedSearchController {
+
+    private final SavedSearchService savedSearchService;
+
+    /**
+     * POST /api/saved-searches
+     * JobSeeker only: Save a job search and get alerts for new matches
+     */
+    @PostMapping
+    @PreAuthorize("hasRole('JOBSEEKER')")
+    public ResponseEntity<ApiResponse.SavedSearchResponse> createSavedSearch(
+            @Valid @RequestBody SavedSearchRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(savedSearchService.createSavedSearch(request));
+    }
+
+    /**
+     * GET /api/saved-searches
+     * JobSeeker only: Get all my saved searches
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('JOBSEEKER')")
+    public ResponseEntity<List<ApiResponse.SavedSearchResponse>> getMySavedSearches() {
+        return ResponseEntity.ok(savedSearchService.getMySavedSearches());
+    }
+
+    /**
+     * DELETE /api/saved-searches/:id
+     * JobSeeker only: Delete own saved search and its alerts
+     */
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('JOBSEEKER')")
+    public ResponseEntity<ApiResponse.MessageResponse> deleteSavedSearch(@PathVariable Long id) {
+        savedSearchService.deleteSavedSearch(id);
+        return ResponseEntity.ok(
+                ApiResponse.MessageResponse.builder()
+                        .success(true)
+                        .message("Saved search deleted successfully")
+                        .build()
+        );
+    }
+}
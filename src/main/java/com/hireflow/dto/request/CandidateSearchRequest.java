@@ -0,0 +1,22 @@
+package com.hireflow.dto.request;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Query parameters of GET /api/company/candidates/search.
+ */
+@Data
+public class CandidateSearchRequest {
+    private String search;
+
+    // Comma separated or repeated; skillMatch is "any" (default) or "all"
+    private List<String> skills;
+    private String skillMatch = "any";
+
+    private String location;
+
+    private int page = 0;
+    private int size = 20;
+}
@@ -0,0 +1,45 @@
+package com.hireflow.dto.request;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Query parameters of GET /api/jobs.
+ */
+@Data
+public class JobSearchRequest {
+    private String search;
+    private String type;
+    private String level;
+    private String category;
+    private String location;
+
+    // City name ("Austin, TX") or "lat,lon"; radiusKm defaults to 50
+    private String near;
+    private Double radiusKm;
+
+    // Comma separated or repeated; skillMatch is "any" (default) or "all"
+    private List<String> skills;
+    private String skillMatch = "any";
+
+    // Annual salary bounds, matched against the overlap with each job's range; currency is an ISO code
+    private Long minSalary;
+    private Long maxSalary;
+    private String currency;
+
+    // relevance (default with search), recent (default otherwise), salary or deadline
+    private String sort;
+
+    private int page = 0;
+    private int size = 10;
+
+    // Keyset paging: pass an empty cursor for the first page, then each response's nextCursor
+    private String cursor;
+
+    // false skips totalElements/totalPages
+    private boolean count = true;
+
+    // Include facet counts for type, level, category and location
+    private boolean facets;
+}
@@ -0,0 +1,31 @@
+package com.hireflow.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * A saved GET /api/jobs query; filters have the same meaning as in {@link JobSearchRequest}.
+ */
+@Data
+public class SavedSearchRequest {
+
+    @NotBlank(message = "Name is required")
+    @Size(max = 100, message = "Name must be at most 100 characters")
+    private String name;
+
+    private String search;
+    private String type;
+    private String level;
+    private String category;
+    private String location;
+    private String near;
+    private Double radiusKm;
+    private List<String> skills;
+    private String skillMatch = "any";
+    private Long minSalary;
+    private Long maxSalary;
+    private String currency;
+}
@@ -1,5 +1,6 @@
 package com.hireflow.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.hireflow.entity.Application;
 import com.hireflow.entity.Job;
 import com.hireflow.entity.User;
@@ -8,6 +9,7 @@ import lombok.Data;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public class ApiResponse {
 
@@ -50,6 +52,21 @@ public class ApiResponse {
         private String companyDescription;
     }
 
+    // ===== CANDIDATE SEARCH =====
+    @Data @Builder
+    public static class CandidateResponse {
+        private Long id;
+        private String name;
+        private String title;
+        private String bio;
+        private String location;
+        private List<String> skills;
+
+        // Only present when the search had text
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Double score;
+    }
+
     // ===== JOB =====
     @Data @Builder
     public static class JobResponse {
@@ -59,6 +76,10 @@ public class ApiResponse {
         private String requirements;
         private String location;
         private String salary;
+        private Long salaryMin;
+        private Long salaryMax;
+        private String salaryCurrency;
+        private String salaryPeriod;
         private String type;
         private String level;
         private String category;
@@ -66,6 +87,7 @@ public class ApiResponse {
         private List<String> benefits;
         private LocalDateTime deadline;
         private String status;
+        private Long duplicateOf;
         private Long companyId;
         private String companyName;
         private int applicationCount;
@@ -73,6 +95,52 @@ public class ApiResponse {
         private LocalDateTime updatedAt;
     }
 
+    // ===== JOB RECOMMENDATIONS =====
+    @Data @Builder
+    public static class RecommendationResponse {
+        private JobResponse job;
+        private double score;
+        private List<String> matchedSkills;
+    }
+
+    // ===== JOB SUGGESTIONS =====
+    @Data @Builder
+    public static class SuggestionResponse {
+        private String text;
+        private String type;
+        private long count;
+    }
+
+    // ===== SAVED SEARCHES & ALERTS =====
+    @Data @Builder
+    public static class SavedSearchResponse {
+        private Long id;
+        private String name;
+        private String search;
+        private String type;
+        private String level;
+        private String category;
+        private String location;
+        private String near;
+        private Double radiusKm;
+        private List<String> skills;
+        private String skillMatch;
+        private Long minSalary;
+        private Long maxSalary;
+        private String currency;
+        private LocalDateTime createdAt;
+    }
+
+    @Data @Builder
+    public static class JobAlertResponse {
+        private Long id;
+        private Long savedSearchId;
+        private String savedSearchName;
+        private JobResponse job;
+        private boolean read;
+        private LocalDateTime createdAt;
+    }
+
     // ===== APPLICATION =====
     @Data @Builder
     public static class ApplicationResponse {
@@ -89,6 +157,10 @@ public class ApiResponse {
         private String status;
         private String companyNotes;
         private LocalDateTime createdAt;
+
+        // Only present when applications are ranked with sort=match
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Double matchScore;
     }
 
     // ===== PAGINATED =====
@@ -97,9 +169,19 @@ public class ApiResponse {
         private List<T> content;
         private int page;
         private int size;
-        private long totalElements;
-        private int totalPages;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Long totalElements;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Integer totalPages;
         private boolean last;
+
+        // Only present in cursor mode when more results follow
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private String nextCursor;
+
+        // Only present on job searches that asked for facets
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Map<String, Map<String, Long>> facets;
     }
 
     // ===== COMPANY DASHBOARD =====
@@ -21,8 +21,11 @@ public class Application extends BaseEntity {
     @JoinColumn(name = "applicant_id", nullable = false)
     private User applicant;
 
-    @Column(name = "cover_letter", columnDefinition = "TEXT")
-    private String coverLetter;
+    // Kept in large_texts and loaded on first access, like companyNotes
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "cover_letter_text_id")
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private LargeText coverLetterText;
 
     private String phone;
     @Column(length = 500)
@@ -36,8 +39,39 @@ public class Application extends BaseEntity {
     @Builder.Default
     private ApplicationStatus status = ApplicationStatus.PENDING;
 
-    @Column(name = "company_notes", columnDefinition = "TEXT")
-    private String companyNotes;
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "company_notes_text_id")
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private LargeText companyNotesText;
+
+    public String getCoverLetter() {
+        return LargeText.valueOf(coverLetterText);
+    }
+
+    public void setCoverLetter(String coverLetter) {
+        coverLetterText = LargeText.replace(coverLetterText, coverLetter);
+    }
+
+    public String getCompanyNotes() {
+        return LargeText.valueOf(companyNotesText);
+    }
+
+    public void setCompanyNotes(String companyNotes) {
+        companyNotesText = LargeText.replace(companyNotesText, companyNotes);
+    }
+
+    // Builders take the texts as strings, like the accessors above
+    public static class ApplicationBuilder {
+        public ApplicationBuilder coverLetter(String coverLetter) {
+            coverLetterText = LargeText.of(coverLetter);
+            return this;
+        }
+
+        public ApplicationBuilder companyNotes(String companyNotes) {
+            companyNotesText = LargeText.of(companyNotes);
+            return this;
+        }
+    }
 
     public enum ApplicationStatus {
         PENDING, REVIEWED, SHORTLISTED, ACCEPTED, REJECTED
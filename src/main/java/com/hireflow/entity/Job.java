@@ -1,7 +1,10 @@
 package com.hireflow.entity;
 
+import com.hireflow.skill.SkillListConverter;
+import com.hireflow.util.StringListConverter;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -18,17 +21,40 @@ public class Job extends BaseEntity {
     @Column(nullable = false)
     private String title;
 
-    @Column(nullable = false, columnDefinition = "TEXT")
-    private String description;
+    // Kept in large_texts and loaded on first access; see the accessors below
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "description_text_id")
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private LargeText descriptionText;
 
-    @Column(columnDefinition = "TEXT")
-    private String requirements;
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "requirements_text_id")
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private LargeText requirementsText;
 
     @Column(nullable = false)
     private String location;
 
+    // Resolved from location on write; null when the gazetteer does not know the place
+    @Embedded
+    private GeoLocation geo;
+
     private String salary;
 
+    // Parsed from salary on write; null when it could not be parsed
+    @Column(name = "salary_min")
+    private Long salaryMin;
+
+    @Column(name = "salary_max")
+    private Long salaryMax;
+
+    @Column(name = "salary_currency", length = 3)
+    private String salaryCurrency;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "salary_period")
+    private SalaryPeriod salaryPeriod;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private JobType type;
@@ -41,23 +67,31 @@ public class Job extends BaseEntity {
     @Column(nullable = false)
     private JobCategory category;
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "job_skills", joinColumns = @JoinColumn(name = "job_id"))
-    @Column(name = "skill")
+    // Stored as SkillDictionary ids, read back as canonical names
+    @Column(name = "skill_ids", length = 2000)
+    @Convert(converter = SkillListConverter.class)
     private List<String> skills;
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "job_benefits", joinColumns = @JoinColumn(name = "job_id"))
-    @Column(name = "benefit")
+    @Column(name = "benefits", columnDefinition = "TEXT")
+    @Convert(converter = StringListConverter.class)
     private List<String> benefits;
 
     @Column(name = "deadline")
     private LocalDateTime deadline;
 
+    // Set at creation when the company already had a near-identical ACTIVE posting
+    @Column(name = "duplicate_of")
+    private Long duplicateOf;
+
     @Enumerated(EnumType.STRING)
     @Builder.Default
     private JobStatus status = JobStatus.ACTIVE;
 
+    // Maintained only by atomic UPDATEs from ApplicationService, never written from the entity
+    @Column(name = "application_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private int applicationCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "company_id", nullable = false)
     private User company;
@@ -65,6 +99,35 @@ public class Job extends BaseEntity {
     @OneToMany(mappedBy = "job", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Application> applications;
 
+    public String getDescription() {
+        return LargeText.valueOf(descriptionText);
+    }
+
+    public void setDescription(String description) {
+        descriptionText = LargeText.replace(descriptionText, description);
+    }
+
+    public String getRequirements() {
+        return LargeText.valueOf(requirementsText);
+    }
+
+    public void setRequirements(String requirements) {
+        requirementsText = LargeText.replace(requirementsText, requirements);
+    }
+
+    // Builders take the texts as strings, like the accessors above
+    public static class JobBuilder {
+        public JobBuilder description(String description) {
+            descriptionText = LargeText.of(description);
+            return this;
+        }
+
+        public JobBuilder requirements(String requirements) {
+            requirementsText = LargeText.of(requirements);
+            return this;
+        }
+    }
+
     public enum JobType {
         FULL_TIME, PART_TIME, CONTRACT, INTERNSHIP, REMOTE
     }
@@ -81,4 +144,8 @@ public class Job extends BaseEntity {
     public enum JobStatus {
         ACTIVE, CLOSED, DRAFT
     }
+
+    public enum SalaryPeriod {
+        HOUR, DAY, WEEK, MONTH, YEAR
+    }
 }
@@ -0,0 +1,36 @@
+package com.hireflow.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+@Entity
+@Table(name = "job_alerts",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"saved_search_id", "job_id"}),
+        indexes = @Index(columnList = "user_id, created_at"))
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class JobAlert extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "saved_search_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private SavedSearch savedSearch;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Job job;
+
+    @Column(name = "is_read")
+    @Builder.Default
+    private boolean read = false;
+}
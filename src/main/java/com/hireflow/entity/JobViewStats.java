@@ -0,0 +1,48 @@
+package com.hireflow.entity;
+
+import com.hireflow.util.HyperLogLog;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * View counters of a job, written in batches by {@code JobViewTracker}.
+ */
+@Entity
+@Table(name = "job_view_stats")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class JobViewStats extends BaseEntity {
+
+    @Id
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Job job;
+
+    // Incremented only by atomic UPDATEs, so concurrent flushes never lose views
+    @Column(name = "view_count", nullable = false, updatable = false)
+    private long viewCount;
+
+    // Estimated from viewer_sketch, a serialized HyperLogLog
+    @Column(name = "unique_viewers", nullable = false)
+    private long uniqueViewers;
+
+    @Column(name = "viewer_sketch", length = HyperLogLog.REGISTERS)
+    private byte[] viewerSketch;
+
+    // Natural log of the exponentially decayed view count, scaled to a fixed epoch
+    @Column(name = "trending_score", nullable = false)
+    private double trendingScore;
+
+    // Guards the read-merge-write of viewer_sketch and trending_score
+    @Version
+    @Column(name = "version", nullable = false)
+    @ColumnDefault("0")
+    private long version;
+}
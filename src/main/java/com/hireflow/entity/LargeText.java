@@ -0,0 +1,39 @@
+package com.hireflow.entity;
+
+import com.hireflow.util.CompressedTextConverter;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * A long free-text value (job description, cover letter, bio...) kept out of its owner's row.
+ * Owners reference it through a lazy one-to-one, so loading a job, application or user
+ * does not read the text until it is asked for; large values are stored compressed.
+ */
+@Entity
+@Table(name = "large_texts")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class LargeText {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "content", nullable = false, length = CompressedTextConverter.MAX_BYTES)
+    @Convert(converter = CompressedTextConverter.class)
+    private String value;
+
+    public static String valueOf(LargeText text) {
+        return text == null ? null : text.getValue();
+    }
+
+    public static LargeText of(String value) {
+        return value == null ? null : LargeText.builder().value(value).build();
+    }
+
+    /** The text to reference after a change: the current one updated in place, or null to drop it. */
+    public static LargeText replace(LargeText current, String value) {
+        if (value == null || current == null) return of(value);
+        if (!value.equals(current.getValue())) current.setValue(value);
+        return current;
+    }
+}
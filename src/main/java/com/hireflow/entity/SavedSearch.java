@@ -0,0 +1,66 @@
+package com.hireflow.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.List;
+
+@Entity
+@Table(name = "saved_searches", indexes = @Index(columnList = "user_id"))
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class SavedSearch extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false)
+    private String name;
+
+    // Same filters as GET /api/jobs
+    private String search;
+
+    @Enumerated(EnumType.STRING)
+    private Job.JobType type;
+
+    @Enumerated(EnumType.STRING)
+    private Job.JobLevel level;
+
+    @Enumerated(EnumType.STRING)
+    private Job.JobCategory category;
+
+    private String location;
+
+    // As entered, plus the resolved centre so alerts do not depend on the gazetteer
+    private String near;
+
+    @Column(name = "near_latitude")
+    private Double nearLatitude;
+
+    @Column(name = "near_longitude")
+    private Double nearLongitude;
+
+    @Column(name = "radius_km")
+    private Double radiusKm;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "saved_search_skills", joinColumns = @JoinColumn(name = "saved_search_id"))
+    @Column(name = "skill")
+    private List<String> skills;
+
+    @Column(name = "match_all_skills")
+    private boolean matchAllSkills;
+
+    @Column(name = "min_salary")
+    private Long minSalary;
+
+    @Column(name = "max_salary")
+    private Long maxSalary;
+
+    @Column(length = 3)
+    private String currency;
+}
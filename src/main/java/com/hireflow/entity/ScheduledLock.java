@@ -0,0 +1,25 @@
+package com.hireflow.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A lease on a scheduled task that must run on one node at a time; see {@code ScheduledLocks}.
+ */
+@Entity
+@Table(name = "scheduled_locks")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class ScheduledLock {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "locked_by", length = 64)
+    private String lockedBy;
+}
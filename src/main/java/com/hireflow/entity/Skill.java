@@ -0,0 +1,24 @@
+package com.hireflow.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * A canonical skill. Job and profile skill lists store these ids; see {@code SkillDictionary}.
+ */
+@Entity
+@Table(name = "skills")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class Skill {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false)
+    private String name;
+
+    // Tokenizer-normalized name; aliases resolve to the key of their canonical skill
+    @Column(name = "skill_key", nullable = false, unique = true)
+    private String key;
+}
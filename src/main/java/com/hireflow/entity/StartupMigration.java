@@ -0,0 +1,22 @@
+package com.hireflow.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A one-shot startup data migration that has completed; see {@code StartupMigrations}.
+ */
+@Entity
+@Table(name = "startup_migrations")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class StartupMigration {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+}
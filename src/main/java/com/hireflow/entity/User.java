@@ -1,5 +1,6 @@
 package com.hireflow.entity;
 
+import com.hireflow.skill.SkillListConverter;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -35,16 +36,23 @@ public class User extends BaseEntity {
     // JobSeeker profile fields
     private String title;
 
-    @Column(columnDefinition = "TEXT")
-    private String bio;
+    // Kept in large_texts and loaded on first access, like companyDescription
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "bio_text_id")
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private LargeText bioText;
 
     private String location;
+
+    // Resolved from location on write; null when the gazetteer does not know the place
+    @Embedded
+    private GeoLocation geo;
     private String phone;
     private String resumeUrl;
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "user_skills", joinColumns = @JoinColumn(name = "user_id"))
-    @Column(name = "skill")
+    // Stored as SkillDictionary ids, read back as canonical names
+    @Column(name = "skill_ids", length = 2000)
+    @Convert(converter = SkillListConverter.class)
     private List<String> skills;
 
     // Company profile fields
@@ -58,8 +66,10 @@ public class User extends BaseEntity {
 
     private String website;
 
-    @Column(name = "company_description", columnDefinition = "TEXT")
-    private String companyDescription;
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "company_description_text_id")
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private LargeText companyDescriptionText;
 
     // Relationships
     @OneToMany(mappedBy = "company", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
@@ -68,7 +78,37 @@ public class User extends BaseEntity {
     @OneToMany(mappedBy = "applicant", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Application> applications;
 
+    public String getBio() {
+        return LargeText.valueOf(bioText);
+    }
+
+    public void setBio(String bio) {
+        bioText = LargeText.replace(bioText, bio);
+    }
+
+    public String getCompanyDescription() {
+        return LargeText.valueOf(companyDescriptionText);
+    }
+
+    public void setCompanyDescription(String companyDescription) {
+        companyDescriptionText = LargeText.replace(companyDescriptionText, companyDescription);
+    }
+
+    // Builders take the texts as strings, like the accessors above
+    public static class UserBuilder {
+        public UserBuilder bio(String bio) {
+            bioText = LargeText.of(bio);
+            return this;
+        }
+
+        public UserBuilder companyDescription(String companyDescription) {
+            companyDescriptionText = LargeText.of(companyDescription);
+            return this;
+        }
+    }
+
+    // ADMIN is granted in the database only; it cannot be chosen at registration
     public enum Role {
-        JOBSEEKER, COMPANY
+        JOBSEEKER, COMPANY, ADMIN
     }
 }
@@ -0,0 +1,153 @@
+package com.hireflow.geo;
+
+import com.hireflow.entity.GeoLocation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Offline geocoder for free-text locations such as "Austin, TX" or "Munich, Germany".
+ * <p>
+ * Backed by the city list in {@code geo/cities.csv}. The first part of the location
+ * that names a known city wins; the remaining parts, when they name a region or
+ * country, narrow down which city of that name is meant. Ambiguous names without
+ * a qualifier resolve to the most populous city.
+ */
+@Slf4j
+@Component
+public class Gazetteer {
+
+    public static final int GEOHASH_PRECISION = 9;
+
+    private static final String CITIES = "geo/cities.csv";
+    private static final String REGIONS = "geo/regions.csv";
+    private static final Pattern PARENTHESES = Pattern.compile("\\([^)]*\\)");
+    private static final Pattern COORDINATES = Pattern.compile(
+            "\\s*(-?\\d{1,2}(?:\\.\\d+)?)\\s*,\\s*(-?\\d{1,3}(?:\\.\\d+)?)\\s*");
+
+    private final Map<String, List<City>> citiesByName = new HashMap<>();
+    // region and country names/codes, as "country" or "country:region"
+    private final Map<String, Set<String>> placesByQualifier = new HashMap<>();
+
+    public Gazetteer() {
+        readCsv(CITIES, fields -> {
+            City city = new City(fields[0], fields[2], fields[3],
+                    Double.parseDouble(fields[4]), Double.parseDouble(fields[5]), Long.parseLong(fields[6]));
+            addName(fields[0], city);
+            if (!fields[1].isEmpty()) {
+                Arrays.stream(fields[1].split("\\|")).forEach(alias -> addName(alias, city));
+            }
+            addQualifier(city.country(), city.country());
+            addQualifier(city.region(), city.country() + ":" + city.region());
+        });
+        readCsv(REGIONS, fields -> {
+            String place = fields[1].isEmpty() ? fields[0] : fields[0] + ":" + fields[1];
+            Arrays.stream(fields[2].split("\\|")).forEach(name -> addQualifier(name, place));
+        });
+        citiesByName.values().forEach(cities -> cities.sort(Comparator.comparingLong(City::population).reversed()));
+        log.info("Gazetteer loaded: {} place names", citiesByName.size());
+    }
+
+    /** Resolves a city name ("Austin, TX") or a "lat,lon" pair; empty when unknown. */
+    public Optional<GeoLocation> locate(String location) {
+        if (location == null || location.isBlank()) return Optional.empty();
+
+        var coordinates = COORDINATES.matcher(location);
+        if (coordinates.matches()) {
+            double lat = Double.parseDouble(coordinates.group(1));
+            double lon = Double.parseDouble(coordinates.group(2));
+            if (Math.abs(lat) > 90 || Math.abs(lon) > 180) return Optional.empty();
+            return Optional.of(toLocation(lat, lon));
+        }
+
+        List<String> parts = Arrays.stream(PARENTHESES.matcher(location).replaceAll(" ").split("[,/;]"))
+                .map(Gazetteer::normalize)
+                .filter(part -> !part.isEmpty())
+                .toList();
+        for (int i = 0; i < parts.size(); i++) {
+            List<String> qualifiers = new ArrayList<>(parts.subList(i + 1, parts.size()));
+            String[] words = parts.get(i).split(" ");
+            // "austin tx": trailing words that do not belong to the city name act as qualifiers
+            for (int end = words.length; end > 0; end--) {
+                List<City> cities = citiesByName.get(String.join(" ", Arrays.copyOfRange(words, 0, end)));
+                if (cities == null) continue;
+                List<String> allQualifiers = new ArrayList<>(Arrays.asList(words).subList(end, words.length));
+                allQualifiers.addAll(qualifiers);
+                Optional<City> city = pick(cities, allQualifiers);
+                if (city.isPresent()) return city.map(c -> toLocation(c.latitude(), c.longitude()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /** The most populous city consistent with every qualifier naming a known region or country. */
+    private Optional<City> pick(List<City> cities, List<String> qualifiers) {
+        return cities.stream()
+                .filter(city -> qualifiers.stream().allMatch(qualifier -> {
+                    Set<String> places = placesByQualifier.get(qualifier);
+                    return places == null
+                            || places.contains(city.country())
+                            || places.contains(city.country() + ":" + city.region());
+                }))
+                .findFirst();
+    }
+
+    private static GeoLocation toLocation(double latitude, double longitude) {
+        return new GeoLocation(latitude, longitude, Geohash.encode(latitude, longitude, GEOHASH_PRECISION));
+    }
+
+    private void addName(String name, City city) {
+        List<City> cities = citiesByName.computeIfAbsent(normalize(name), key -> new ArrayList<>());
+        if (!cities.contains(city)) cities.add(city);
+    }
+
+    private void addQualifier(String name, String place) {
+        placesByQualifier.computeIfAbsent(normalize(name), key -> new HashSet<>()).add(place);
+    }
+
+    private static void readCsv(String resource, Consumer<String[]> row) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(resource).getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) continue;
+                row.accept(line.split(",", -1));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + resource, e);
+        }
+    }
+
+    /** Lower case, accents stripped, punctuation other than inner dots and dashes dropped. */
+    static String normalize(String text) {
+        String plain = Normalizer.normalize(text, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return plain.toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{N}.\\- ]", " ")
+                .replaceAll("\\.(?=\\s|$)", "")
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    private record City(String name, String region, String country, double latitude, double longitude,
+                        long population) {
+    }
+}
@@ -0,0 +1,79 @@
+package com.hireflow.geo;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Base-32 geohash encoding. Each character adds five bits, alternating longitude
+ * and latitude, so a shorter hash is a larger cell containing every longer hash it prefixes.
+ */
+public final class Geohash {
+
+    public static final int MAX_PRECISION = 12;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+    private static final double KM_PER_DEGREE = 111.32;
+
+    private Geohash() {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        double[] lat = {-90.0, 90.0};
+        double[] lon = {-180.0, 180.0};
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+        while (hash.length() < precision) {
+            double[] range = evenBit ? lon : lat;
+            double value = evenBit ? longitude : latitude;
+            double mid = (range[0] + range[1]) / 2;
+            if (value >= mid) {
+                ch = (ch << 1) | 1;
+                range[0] = mid;
+            } else {
+                ch <<= 1;
+                range[1] = mid;
+            }
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                hash.append(BASE32[ch]);
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    public static double cellHeightDegrees(int precision) {
+        return 180.0 / (1L << (precision * 5 / 2));
+    }
+
+    public static double cellWidthDegrees(int precision) {
+        return 360.0 / (1L << ((precision * 5 + 1) / 2));
+    }
+
+    /** Smallest side of a cell in km, measured at the given latitude. */
+    public static double cellSizeKm(int precision, double latitude) {
+        double height = cellHeightDegrees(precision) * KM_PER_DEGREE;
+        double width = cellWidthDegrees(precision) * KM_PER_DEGREE * Math.cos(Math.toRadians(latitude));
+        return Math.min(height, width);
+    }
+
+    /** The cell containing the point and its eight neighbours (fewer near the poles). */
+    public static Set<String> neighbourhood(double latitude, double longitude, int precision) {
+        double height = cellHeightDegrees(precision);
+        double width = cellWidthDegrees(precision);
+        Set<String> cells = new LinkedHashSet<>(9);
+        for (int dy = -1; dy <= 1; dy++) {
+            double lat = Math.max(-90.0, Math.min(90.0 - 1e-9, latitude + dy * height));
+            for (int dx = -1; dx <= 1; dx++) {
+                double lon = longitude + dx * width;
+                if (lon >= 180.0) lon -= 360.0;
+                if (lon < -180.0) lon += 360.0;
+                cells.add(encode(lat, lon, precision));
+            }
+        }
+        return cells;
+    }
+}
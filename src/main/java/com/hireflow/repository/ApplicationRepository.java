@@ -3,6 +3,7 @@ package com.hireflow.repository;
 import com.hireflow.entity.Application;
 import com.hireflow.entity.Job;
 import com.hireflow.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,14 +15,43 @@ import java.util.Optional;
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
 
+    @EntityGraph(attributePaths = {"applicant", "job", "job.company", "coverLetterText", "companyNotesText"},
+            type = EntityGraph.EntityGraphType.LOAD)
     List<Application> findByApplicantOrderByCreatedAtDesc(User applicant);
 
+    @EntityGraph(attributePaths = {"applicant", "job", "job.company", "coverLetterText", "companyNotesText"},
+            type = EntityGraph.EntityGraphType.LOAD)
     List<Application> findByJobOrderByCreatedAtDesc(Job job);
 
+    @EntityGraph(attributePaths = {"applicant", "job", "job.company", "coverLetterText", "companyNotesText"},
+            type = EntityGraph.EntityGraphType.LOAD)
+    List<Application> findByIdIn(List<Long> ids);
+
+    // Applicant fields needed to rank a job's applications, without loading entities
+    interface ApplicantRow {
+        Long getApplicationId();
+        String getTitle();
+        Double getLatitude();
+        Double getLongitude();
+        List<String> getSkills();
+    }
+
+    @Query("""
+        SELECT a.id AS applicationId, u.title AS title,
+               u.geo.latitude AS latitude, u.geo.longitude AS longitude, u.skills AS skills
+        FROM Application a JOIN a.applicant u
+        WHERE a.job = :job
+        ORDER BY a.id
+        """)
+    List<ApplicantRow> findApplicantRowsByJob(@Param("job") Job job);
+
     Optional<Application> findByJobAndApplicant(Job job, User applicant);
 
     boolean existsByJobAndApplicant(Job job, User applicant);
 
+    @Query("SELECT a.job.id FROM Application a WHERE a.applicant.email = :email")
+    List<Long> findJobIdsByApplicantEmail(@Param("email") String email);
+
     long countByApplicant(User applicant);
 
     @Query("""
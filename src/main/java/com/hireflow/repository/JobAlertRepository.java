@@ -0,0 +1,26 @@
+package com.hireflow.repository;
+
+import com.hireflow.entity.JobAlert;
+import com.hireflow.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface JobAlertRepository extends JpaRepository<JobAlert, Long> {
+
+    @EntityGraph(attributePaths = {"job", "job.company", "savedSearch"}, type = EntityGraph.EntityGraphType.LOAD)
+    Page<JobAlert> findByUserOrderByCreatedAtDescIdDesc(User user, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"job", "job.company", "savedSearch"}, type = EntityGraph.EntityGraphType.LOAD)
+    Page<JobAlert> findByUserAndReadFalseOrderByCreatedAtDescIdDesc(User user, Pageable pageable);
+
+    @Query("SELECT a.savedSearch.id FROM JobAlert a WHERE a.job.id = :jobId")
+    List<Long> findSavedSearchIdsByJobId(@Param("jobId") Long jobId);
+}
@@ -2,37 +2,101 @@ package com.hireflow.repository;
 
 import com.hireflow.entity.Job;
 import com.hireflow.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface JobRepository extends JpaRepository<Job, Long> {
 
-    List<Job> findByCompanyOrderByCreatedAtDesc(User company);
+    @Query("SELECT j.id FROM Job j WHERE j.company = :company ORDER BY j.createdAt DESC")
+    List<Long> findIdsByCompanyOrderByCreatedAtDesc(@Param("company") User company);
 
-    Page<Job> findByStatus(Job.JobStatus status, Pageable pageable);
+    interface StatusCount {
+        Job.JobStatus getStatus();
+        long getJobs();
+        long getApplications();
+    }
 
     @Query("""
-        SELECT j FROM Job j
+        SELECT j.status AS status, COUNT(j) AS jobs, SUM(j.applicationCount) AS applications
+        FROM Job j WHERE j.company = :company
+        GROUP BY j.status
+        """)
+    List<StatusCount> countByStatusForCompany(@Param("company") User company);
+
+    @EntityGraph(attributePaths = {"company", "descriptionText", "requirementsText"}, type = EntityGraph.EntityGraphType.LOAD)
+    List<Job> findByIdIn(Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Job j SET j.applicationCount = j.applicationCount + :delta WHERE j.id = :id")
+    int adjustApplicationCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Query("SELECT j.id FROM Job j WHERE j.applicationCount <> (SELECT COUNT(a) FROM Application a WHERE a.job = j) ORDER BY j.id")
+    List<Long> findIdsWithDriftedApplicationCount();
+
+    // Holds off applications to these jobs, whose count increments wait for the row lock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM Job j WHERE j.id IN :ids")
+    List<Job> lockByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Repairs drifted counters of the given jobs; returns how many were off
+    @Modifying
+    @Query("""
+        UPDATE Job j SET j.applicationCount = (SELECT COUNT(a) FROM Application a WHERE a.job = j)
+        WHERE j.id IN :ids AND j.applicationCount <> (SELECT COUNT(a) FROM Application a WHERE a.job = j)
+        """)
+    int reconcileApplicationCounts(@Param("ids") Collection<Long> ids);
+
+    @EntityGraph(attributePaths = {"company", "descriptionText", "requirementsText"}, type = EntityGraph.EntityGraphType.LOAD)
+    Optional<Job> findWithCompanyById(Long id);
+
+    Page<Job> findByStatus(Job.JobStatus status, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"company", "descriptionText", "requirementsText"}, type = EntityGraph.EntityGraphType.LOAD)
+    Slice<Job> findByStatusAndIdGreaterThan(Job.JobStatus status, Long id, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"company", "descriptionText", "requirementsText"}, type = EntityGraph.EntityGraphType.LOAD)
+    Slice<Job> findByUpdatedAtGreaterThanEqualAndIdGreaterThan(LocalDateTime since, Long id, Pageable pageable);
+
+    Slice<Job> findBySalaryIsNotNullAndIdGreaterThan(Long id, Pageable pageable);
+
+    Slice<Job> findByGeoLatitudeIsNullAndIdGreaterThan(Long id, Pageable pageable);
+
+    @Query("SELECT j.id FROM Job j WHERE j.status = :status AND j.id > :afterId ORDER BY j.id")
+    List<Long> findIdsByStatusAfter(@Param("status") Job.JobStatus status,
+                                    @Param("afterId") Long afterId,
+                                    Pageable pageable);
+
+    @Query("SELECT j.id FROM Job j WHERE j.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Keyword matching is done by JobService: descriptions are stored compressed, out of reach of LIKE
+    String ACTIVE_JOB_FILTERS = """
         WHERE j.status = 'ACTIVE'
-          AND (:search IS NULL OR :search = '' OR
-               LOWER(j.title) LIKE LOWER(CONCAT('%', :search, '%')) OR
-               LOWER(j.description) LIKE LOWER(CONCAT('%', :search, '%')))
           AND (:type IS NULL OR j.type = :type)
           AND (:level IS NULL OR j.level = :level)
           AND (:category IS NULL OR j.category = :category)
           AND (:location IS NULL OR :location = '' OR
                LOWER(j.location) LIKE LOWER(CONCAT('%', :location, '%')))
-        ORDER BY j.createdAt DESC
-        """)
+        """;
+
+    @Query("SELECT j FROM Job j " + ACTIVE_JOB_FILTERS + " ORDER BY j.createdAt DESC")
     Page<Job> findJobsWithFilters(
-            @Param("search") String search,
             @Param("type") Job.JobType type,
             @Param("level") Job.JobLevel level,
             @Param("category") Job.JobCategory category,
@@ -40,5 +104,41 @@ public interface JobRepository extends JpaRepository<Job, Long> {
             Pageable pageable
     );
 
+    // Same as findJobsWithFilters without the COUNT query
+    @Query("SELECT j FROM Job j " + ACTIVE_JOB_FILTERS + " ORDER BY j.createdAt DESC")
+    Slice<Job> findJobsWithFiltersNoCount(
+            @Param("type") Job.JobType type,
+            @Param("level") Job.JobLevel level,
+            @Param("category") Job.JobCategory category,
+            @Param("location") String location,
+            Pageable pageable
+    );
+
+    // Keyset page: jobs strictly after (beforeCreatedAt, beforeId) in (createdAt DESC, id DESC) order
+    @Query("SELECT j FROM Job j " + ACTIVE_JOB_FILTERS + """
+          AND (:beforeCreatedAt IS NULL OR j.createdAt < :beforeCreatedAt OR
+               (j.createdAt = :beforeCreatedAt AND j.id < :beforeId))
+        ORDER BY j.createdAt DESC, j.id DESC
+        """)
+    Slice<Job> findJobsWithFiltersBefore(
+            @Param("type") Job.JobType type,
+            @Param("level") Job.JobLevel level,
+            @Param("category") Job.JobCategory category,
+            @Param("location") String location,
+            @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+            @Param("beforeId") Long beforeId,
+            Pageable pageable
+    );
+
+    // Newest first, with descriptions, for matching keywords while the search index loads
+    @Query("SELECT j FROM Job j LEFT JOIN FETCH j.descriptionText " + ACTIVE_JOB_FILTERS
+            + " ORDER BY j.createdAt DESC, j.id DESC")
+    Stream<Job> streamJobsWithFilters(
+            @Param("type") Job.JobType type,
+            @Param("level") Job.JobLevel level,
+            @Param("category") Job.JobCategory category,
+            @Param("location") String location
+    );
+
     long countByCompanyAndStatus(User company, Job.JobStatus status);
 }
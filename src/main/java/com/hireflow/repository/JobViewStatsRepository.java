@@ -0,0 +1,30 @@
+package com.hireflow.repository;
+
+import com.hireflow.entity.JobViewStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface JobViewStatsRepository extends JpaRepository<JobViewStats, Long> {
+
+    interface TrendingRow {
+        Long getJobId();
+        double getTrendingScore();
+    }
+
+    @Query("SELECT s.jobId AS jobId, s.trendingScore AS trendingScore FROM JobViewStats s")
+    List<TrendingRow> findAllTrendingScores();
+
+    @Query("SELECT s.jobId AS jobId, s.trendingScore AS trendingScore FROM JobViewStats s WHERE s.updatedAt >= :since")
+    List<TrendingRow> findTrendingScoresUpdatedSince(@Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("UPDATE JobViewStats s SET s.viewCount = s.viewCount + :views WHERE s.jobId = :jobId")
+    int addViews(@Param("jobId") Long jobId, @Param("views") long views);
+}
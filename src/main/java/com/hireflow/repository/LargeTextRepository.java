@@ -0,0 +1,9 @@
+package com.hireflow.repository;
+
+import com.hireflow.entity.LargeText;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LargeTextRepository extends JpaRepository<LargeText, Long> {
+}
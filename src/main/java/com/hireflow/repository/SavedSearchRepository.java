@@ -0,0 +1,32 @@
+package com.hireflow.repository;
+
+import com.hireflow.entity.SavedSearch;
+import com.hireflow.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+
+    List<SavedSearch> findByUserOrderByCreatedAtDesc(User user);
+
+    long countByUser(User user);
+
+    @Query("SELECT DISTINCT s FROM SavedSearch s LEFT JOIN FETCH s.skills")
+    List<SavedSearch> findAllWithSkills();
+
+    @Query("SELECT DISTINCT s FROM SavedSearch s LEFT JOIN FETCH s.skills WHERE s.createdAt >= :since")
+    List<SavedSearch> findCreatedSinceWithSkills(@Param("since") LocalDateTime since);
+
+    @Query("SELECT s.id FROM SavedSearch s")
+    List<Long> findAllIds();
+
+    @Query("SELECT s.id FROM SavedSearch s WHERE s.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+}
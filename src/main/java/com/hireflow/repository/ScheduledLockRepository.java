@@ -0,0 +1,32 @@
+package com.hireflow.repository;
+
+import com.hireflow.entity.ScheduledLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ScheduledLockRepository extends JpaRepository<ScheduledLock, String> {
+
+    // A plain INSERT: save() would merge into a row another node just created and reset its lease
+    @Modifying
+    @Query(value = "INSERT INTO scheduled_locks (name, locked_until) VALUES (:name, :now)", nativeQuery = true)
+    int create(@Param("name") String name, @Param("now") LocalDateTime now);
+
+    // Takes the lease if it has expired; returns 1 when this node now holds it
+    @Modifying
+    @Query("""
+        UPDATE ScheduledLock l SET l.lockedUntil = :until, l.lockedBy = :owner
+        WHERE l.name = :name AND l.lockedUntil <= :now
+        """)
+    int acquire(@Param("name") String name, @Param("owner") String owner,
+                @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Query("UPDATE ScheduledLock l SET l.lockedUntil = :now WHERE l.name = :name AND l.lockedBy = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
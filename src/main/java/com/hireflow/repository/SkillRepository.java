@@ -0,0 +1,13 @@
+package com.hireflow.repository;
+
+import com.hireflow.entity.Skill;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface SkillRepository extends JpaRepository<Skill, Integer> {
+
+    Optional<Skill> findByKey(String key);
+}
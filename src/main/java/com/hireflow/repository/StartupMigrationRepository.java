@@ -0,0 +1,9 @@
+package com.hireflow.repository;
+
+import com.hireflow.entity.StartupMigration;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StartupMigrationRepository extends JpaRepository<StartupMigration, String> {
+}
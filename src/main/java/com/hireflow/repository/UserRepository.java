@@ -1,6 +1,9 @@
 package com.hireflow.repository;
 
 import com.hireflow.entity.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,4 +13,7 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     Boolean existsByEmail(String email);
+    Slice<User> findByLocationIsNotNullAndGeoLatitudeIsNullAndIdGreaterThan(Long id, Pageable pageable);
+    @EntityGraph(attributePaths = "bioText", type = EntityGraph.EntityGraphType.LOAD)
+    Slice<User> findByRoleAndIdGreaterThan(User.Role role, Long id, Pageable pageable);
 }
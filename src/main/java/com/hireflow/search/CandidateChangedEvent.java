@@ -0,0 +1,14 @@
+package com.hireflow.search;
+
+import com.hireflow.entity.User;
+
+/**
+ * Published by {@code AuthService} and {@code UserService} whenever a job seeker's profile is written,
+ * after the write is flushed so the document carries the row's {@code updatedAt}.
+ */
+public record CandidateChangedEvent(CandidateDocument document) {
+
+    public static CandidateChangedEvent saved(User user) {
+        return new CandidateChangedEvent(CandidateDocument.from(user));
+    }
+}
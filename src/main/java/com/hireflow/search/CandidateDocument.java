@@ -0,0 +1,34 @@
+package com.hireflow.search;
+
+import com.hireflow.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Searchable snapshot of a job seeker's profile, as held by {@link CandidateSearchIndex}.
+ */
+public record CandidateDocument(
+        Long id,
+        String name,
+        String title,
+        String bio,
+        String location,
+        List<String> skills,
+        boolean active,
+        LocalDateTime updatedAt
+) implements DocumentIndex.Indexable {
+
+    public static CandidateDocument from(User user) {
+        return new CandidateDocument(
+                user.getId(),
+                user.getName(),
+                user.getTitle(),
+                user.getBio(),
+                user.getLocation(),
+                user.getSkills() != null ? List.copyOf(user.getSkills()) : List.of(),
+                !Boolean.FALSE.equals(user.getIsActive()),
+                user.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.hireflow.search;
+
+import java.util.List;
+
+/**
+ * Normalized form of a candidate search. Without text, candidates are listed by most
+ * recently updated profile.
+ */
+public record CandidateSearchCriteria(
+        String search,
+        List<String> skills,
+        boolean matchAllSkills,
+        String location,
+        int page,
+        int size
+) {
+
+    public boolean hasText() {
+        return search != null && !search.isBlank();
+    }
+}
@@ -0,0 +1,165 @@
+package com.hireflow.search;
+
+import com.hireflow.entity.User;
+import com.hireflow.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * In-memory search index over active job-seeker profiles, for companies looking for candidates.
+ * <p>
+ * Text queries run against a BM25 inverted index over title, skills, bio and location;
+ * skill and location filters are bitmap intersections, sharing {@link DocumentIndex} with
+ * {@link JobSearchIndex}. The index holds the public profile fields, so a search is
+ * answered without reading the {@code users} table. Loaded at startup and kept current from {@link CandidateChangedEvent}s.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CandidateSearchIndex extends DocumentIndex<CandidateDocument> {
+
+    private static final int LOAD_BATCH_SIZE = 500;
+
+    private final UserRepository userRepository;
+
+    private final Set<Long> touchedDuringLoad = new HashSet<>();
+    private long[] updatedAtMillis = new long[256];
+    private volatile boolean ready;
+
+    // most recently updated first when reversed; ties broken by user id
+    private final Comparator<Hit> recency = Comparator.<Hit>comparingLong(hit -> updatedAtMillis[hit.docId()])
+            .thenComparingLong(hit -> documents.get(hit.docId()).id());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        long lastId = 0L;
+        Slice<User> batch;
+        do {
+            batch = userRepository.findByRoleAndIdGreaterThan(
+                    User.Role.JOBSEEKER, lastId, PageRequest.of(0, LOAD_BATCH_SIZE, Sort.by("id")));
+            lock.writeLock().lock();
+            try {
+                for (User user : batch) {
+                    lastId = user.getId();
+                    if (!touchedDuringLoad.contains(user.getId())) upsert(CandidateDocument.from(user));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } while (batch.hasNext());
+
+        lock.writeLock().lock();
+        try {
+            touchedDuringLoad.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Candidate search index ready: {} profiles in {} ms",
+                live.getCardinality(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCandidateChanged(CandidateChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (!ready) touchedDuringLoad.add(event.document().id());
+            upsert(event.document());
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public CandidateSearchResult search(CandidateSearchCriteria criteria) {
+        lock.readLock().lock();
+        try {
+            List<TextIndex.QueryTerm> terms = criteria.hasText()
+                    ? text.resolve(Tokenizer.tokenize(criteria.search()))
+                    : List.of();
+            RoaringBitmap candidates = live.clone();
+            for (TextIndex.QueryTerm term : terms) {
+                candidates.and(text.matching(term));
+            }
+            if (criteria.skills() != null && !criteria.skills().isEmpty()) {
+                candidates.and(skillFilter(criteria.skills(), criteria.matchAllSkills()));
+            }
+            if (criteria.location() != null && !criteria.location().isBlank()) {
+                List<String> tokens = Tokenizer.tokenize(criteria.location());
+                for (int i = 0; i < tokens.size(); i++) {
+                    // the last token is matched as a prefix, as on /api/jobs
+                    candidates.and(i == tokens.size() - 1
+                            ? locationPrefix(tokens.get(i))
+                            : byLocationTerm.getOrDefault(tokens.get(i), new RoaringBitmap()));
+                }
+            }
+
+            long total = candidates.getLongCardinality();
+            long offset = (long) criteria.page() * criteria.size();
+            if (offset >= total) {
+                return new CandidateSearchResult(List.of(), terms.isEmpty() ? null : List.of(), total);
+            }
+            List<Hit> hits = topHits(candidates, terms, (int) offset, criteria.size());
+            return new CandidateSearchResult(
+                    hits.stream().map(hit -> documents.get(hit.docId())).toList(),
+                    terms.isEmpty() ? null : hits.stream().map(Hit::score).toList(),
+                    total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===== QUERY =====
+
+    private List<Hit> topHits(RoaringBitmap candidates, List<TextIndex.QueryTerm> terms, int offset, int size) {
+        int limit = offset + size;
+        Comparator<Hit> order = terms.isEmpty()
+                ? recency
+                : Comparator.comparingDouble(Hit::score).thenComparing(recency);
+        PriorityQueue<Hit> heap = new PriorityQueue<>(Math.min(limit, 1024), order);
+        candidates.forEach((int docId) -> {
+            offer(heap, new Hit(docId, terms.isEmpty() ? 0f : text.score(docId, terms)), limit, order);
+        });
+
+        List<Hit> ranked = new ArrayList<>(heap);
+        ranked.sort(order.reversed());
+        return ranked.subList(Math.min(offset, ranked.size()), ranked.size());
+    }
+
+    // ===== MAINTENANCE =====
+
+    @Override
+    protected boolean isIndexed(CandidateDocument document) {
+        return document.active();
+    }
+
+    @Override
+    protected List<String> bodyTexts(CandidateDocument document) {
+        return Arrays.asList(document.bio(), document.location());
+    }
+
+    @Override
+    protected void onAdded(int docId, CandidateDocument document) {
+        if (docId >= updatedAtMillis.length) {
+            updatedAtMillis = Arrays.copyOf(updatedAtMillis, updatedAtMillis.length * 2);
+        }
+        updatedAtMillis[docId] = document.updatedAt() != null ? JobCursor.toMillis(document.updatedAt()) : 0L;
+    }
+}
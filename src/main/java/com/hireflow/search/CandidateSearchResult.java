@@ -0,0 +1,13 @@
+package com.hireflow.search;
+
+import java.util.List;
+
+/**
+ * @param scores BM25 score per candidate, or null when the search had no text
+ */
+public record CandidateSearchResult(
+        List<CandidateDocument> candidates,
+        List<Float> scores,
+        long totalElements
+) {
+}
@@ -0,0 +1,76 @@
+package com.hireflow.search;
+
+import com.hireflow.entity.GeoLocation;
+import com.hireflow.util.SalaryParser;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The structured filters of a {@link JobSearchCriteria}, each evaluated against a single
+ * document the way {@link JobSearchIndex} evaluates it against all of them.
+ * Free-text search is not covered.
+ */
+enum CriteriaDimension {
+    TYPE {
+        boolean matches(JobSearchCriteria c, JobDocument d) {
+            return c.type() == null || c.type() == d.type();
+        }
+    },
+    LEVEL {
+        boolean matches(JobSearchCriteria c, JobDocument d) {
+            return c.level() == null || c.level() == d.level();
+        }
+    },
+    CATEGORY {
+        boolean matches(JobSearchCriteria c, JobDocument d) {
+            return c.category() == null || c.category() == d.category();
+        }
+    },
+    LOCATION {
+        boolean matches(JobSearchCriteria c, JobDocument d) {
+            if (c.location() == null) return true;
+            List<String> wanted = Tokenizer.tokenize(c.location());
+            List<String> terms = Tokenizer.tokenize(d.location());
+            for (int i = 0; i < wanted.size(); i++) {
+                String token = wanted.get(i);
+                boolean prefix = i == wanted.size() - 1;
+                if (terms.stream().noneMatch(term -> prefix ? term.startsWith(token) : term.equals(token))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    },
+    RADIUS {
+        boolean matches(JobSearchCriteria c, JobDocument d) {
+            if (c.near() == null) return true;
+            return d.hasCoordinates() && GeoLocation.distanceKm(c.near().latitude(), c.near().longitude(),
+                    d.latitude(), d.longitude()) <= c.near().km();
+        }
+    },
+    SKILLS {
+        boolean matches(JobSearchCriteria c, JobDocument d) {
+            if (c.skills() == null) return true;
+            Set<String> skills = d.skills().stream().map(Tokenizer::normalize).collect(Collectors.toSet());
+            return c.matchAllSkills()
+                    ? skills.containsAll(c.skills())
+                    : c.skills().stream().anyMatch(skills::contains);
+        }
+    },
+    SALARY {
+        boolean matches(JobSearchCriteria c, JobDocument d) {
+            if (c.minSalary() == null && c.maxSalary() == null && c.currency() == null) return true;
+            if (!d.hasSalary()) return false;
+            if (c.currency() != null && !c.currency().equals(d.salaryCurrency())) return false;
+            long min = SalaryParser.annualize(d.salaryMin(), d.salaryPeriod());
+            long max = SalaryParser.annualize(d.salaryMax(), d.salaryPeriod());
+            return (c.minSalary() == null || max >= c.minSalary())
+                    && (c.maxSalary() == null || min <= c.maxSalary());
+        }
+    };
+
+    /** Expects skills normalized with {@link Tokenizer#normalize}, as in {@code JobSearchCache.Key}. */
+    abstract boolean matches(JobSearchCriteria criteria, JobDocument document);
+}
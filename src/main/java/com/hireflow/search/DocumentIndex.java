@@ -0,0 +1,182 @@
+package com.hireflow.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Core shared by {@link JobSearchIndex} and {@link CandidateSearchIndex}: documents get
+ * increasing doc ids, are live while indexed, and are posted into skill and location-term
+ * bitmaps and a BM25 {@link TextIndex} over the title (weight 3), skills (weight 2) and
+ * any further text fields (weight 1). Subclasses keep their own per-document columns and
+ * filters through {@link #onAdded} and {@link #onRemoved}. Doc ids are not reused; once
+ * removed documents outnumber live ones, everything is rebuilt from the survivors.
+ * Callers hold {@link #lock}; the write lock for any change.
+ */
+@Slf4j
+abstract class DocumentIndex<D extends DocumentIndex.Indexable> {
+
+    private static final int MIN_COMPACTION_GARBAGE = 1024;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int SKILL_WEIGHT = 2;
+
+    /** The fields every indexed document has; the document records implement them as components. */
+    interface Indexable {
+        Long id();
+
+        String title();
+
+        String location();
+
+        List<String> skills();
+    }
+
+    protected final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    protected final Map<Long, Integer> docIdsById = new HashMap<>();
+    protected final List<D> documents = new ArrayList<>();
+    protected final RoaringBitmap live = new RoaringBitmap();
+    protected final Map<String, RoaringBitmap> bySkill = new HashMap<>();
+    protected final TreeMap<String, RoaringBitmap> byLocationTerm = new TreeMap<>();
+    protected TextIndex text = new TextIndex();
+
+    /** Whether the document is searchable at all; others are only removed. */
+    protected abstract boolean isIndexed(D document);
+
+    /** Text fields searched besides the title and skills; entries may be null. */
+    protected abstract List<String> bodyTexts(D document);
+
+    /** Records the subclass's own columns and postings for a newly added document. */
+    protected abstract void onAdded(int docId, D document);
+
+    /** Drops the subclass's postings of a removed document. */
+    protected void onRemoved(int docId, D document) {
+    }
+
+    /** Empties the subclass's postings before a compaction re-adds the survivors. */
+    protected void clearPostings() {
+    }
+
+    protected void upsert(D document) {
+        remove(document.id());
+        if (!isIndexed(document)) return;
+
+        int docId = documents.size();
+        documents.add(document);
+        docIdsById.put(document.id(), docId);
+        live.add(docId);
+        for (String skill : document.skills()) {
+            bySkill.computeIfAbsent(Tokenizer.normalize(skill), k -> new RoaringBitmap()).add(docId);
+        }
+        for (String term : Tokenizer.tokenize(document.location())) {
+            byLocationTerm.computeIfAbsent(term, k -> new RoaringBitmap()).add(docId);
+        }
+        onAdded(docId, document);
+        text.add(docId, termFrequencies(document));
+    }
+
+    protected void remove(Long id) {
+        Integer docId = docIdsById.remove(id);
+        if (docId == null) return;
+        live.remove(docId);
+        text.remove(docId);
+        // filter bitmaps are cleared eagerly; text postings are dropped at the next compaction
+        D document = documents.get(docId);
+        for (String skill : document.skills()) {
+            removeFrom(bySkill, Tokenizer.normalize(skill), docId);
+        }
+        for (String term : Tokenizer.tokenize(document.location())) {
+            removeFrom(byLocationTerm, term, docId);
+        }
+        onRemoved(docId, document);
+        documents.set(docId, null);
+    }
+
+    protected void compactIfNeeded() {
+        int garbage = documents.size() - live.getCardinality();
+        if (garbage < MIN_COMPACTION_GARBAGE || garbage < live.getCardinality()) return;
+
+        List<D> survivors = documents.stream().filter(Objects::nonNull).toList();
+        documents.clear();
+        docIdsById.clear();
+        live.clear();
+        bySkill.clear();
+        byLocationTerm.clear();
+        clearPostings();
+        text = new TextIndex();
+        survivors.forEach(this::upsert);
+        log.debug("{} compacted: {} documents, {} dropped", getClass().getSimpleName(), survivors.size(), garbage);
+    }
+
+    private Map<String, Integer> termFrequencies(D document) {
+        Map<String, Integer> freqs = new HashMap<>();
+        addTerms(freqs, document.title(), TITLE_WEIGHT);
+        for (String body : bodyTexts(document)) {
+            addTerms(freqs, body, 1);
+        }
+        for (String skill : document.skills()) {
+            addTerms(freqs, skill, SKILL_WEIGHT);
+        }
+        return freqs;
+    }
+
+    private static void addTerms(Map<String, Integer> freqs, String value, int weight) {
+        for (String term : Tokenizer.tokenize(value)) {
+            freqs.merge(term, weight, Integer::sum);
+        }
+    }
+
+    // ===== QUERY =====
+
+    protected RoaringBitmap skillFilter(List<String> skills, boolean matchAll) {
+        List<RoaringBitmap> postings = skills.stream()
+                .map(Tokenizer::normalize)
+                .filter(key -> !key.isEmpty())
+                .distinct()
+                .map(key -> bySkill.getOrDefault(key, new RoaringBitmap()))
+                .toList();
+        if (postings.isEmpty()) return live.clone();
+        return matchAll
+                ? FastAggregation.and(postings.iterator())
+                : FastAggregation.or(postings.iterator());
+    }
+
+    protected RoaringBitmap locationPrefix(String prefix) {
+        RoaringBitmap matches = new RoaringBitmap();
+        byLocationTerm.subMap(prefix, prefix + Character.MAX_VALUE).values().forEach(matches::or);
+        return matches;
+    }
+
+    protected static void offer(PriorityQueue<Hit> heap, Hit hit, int limit, Comparator<Hit> order) {
+        if (heap.size() < limit) {
+            heap.add(hit);
+        } else if (order.compare(hit, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(hit);
+        }
+    }
+
+    protected static <K> void removeFrom(Map<K, RoaringBitmap> index, K key, int docId) {
+        RoaringBitmap docs = index.get(key);
+        if (docs == null) return;
+        docs.remove(docId);
+        if (docs.isEmpty()) index.remove(key);
+    }
+
+    protected static <K> RoaringBitmap bitmapOf(Map<K, RoaringBitmap> index, K key) {
+        RoaringBitmap docs = index.get(key);
+        return docs != null ? docs : new RoaringBitmap();
+    }
+
+    protected record Hit(int docId, float score) {
+    }
+}
@@ -0,0 +1,183 @@
+package com.hireflow.search;
+
+import com.hireflow.util.SimHash;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Finds near-duplicate ACTIVE postings of the same company by SimHash fingerprint.
+ * <p>
+ * The 64 fingerprint bits are cut into {@code maxDistance + 1} blocks, and each block
+ * has its own table keyed by company and block value. Two fingerprints at most
+ * {@code maxDistance} bits apart must agree on at least one whole block, so probing one
+ * bucket per table finds every match; only the few jobs in those buckets are compared
+ * bit by bit.
+ */
+@Slf4j
+@Component
+public class DuplicateJobIndex {
+
+    private static final int MAX_DISTANCE_LIMIT = 7;
+    private static final int TITLE_WEIGHT = 3;
+
+    public enum Policy {
+        FLAG, REJECT, OFF
+    }
+
+    public record Duplicate(long jobId, int distance) {
+    }
+
+    private final Policy policy;
+    private final int maxDistance;
+    private final int[] blockStart;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final List<Map<Long, Set<Long>>> tables;
+
+    private record Entry(long companyId, long fingerprint) {
+    }
+
+    public DuplicateJobIndex(@Value("${app.jobs.duplicates:flag}") String policy,
+                             @Value("${app.jobs.duplicate-max-distance:3}") int maxDistance) {
+        if (maxDistance < 0 || maxDistance > MAX_DISTANCE_LIMIT) {
+            throw new IllegalArgumentException("app.jobs.duplicate-max-distance must be between 0 and " + MAX_DISTANCE_LIMIT);
+        }
+        this.policy = Policy.valueOf(policy.trim().toUpperCase());
+        this.maxDistance = maxDistance;
+        int blocks = maxDistance + 1;
+        this.blockStart = new int[blocks + 1];
+        for (int i = 0; i <= blocks; i++) {
+            blockStart[i] = i * 64 / blocks;
+        }
+        this.tables = new ArrayList<>(blocks);
+        for (int i = 0; i < blocks; i++) {
+            tables.add(new HashMap<>());
+        }
+    }
+
+    public Policy policy() {
+        return policy;
+    }
+
+    @EventListener
+    public void onIndexLoaded(JobIndexLoadedEvent event) {
+        if (policy == Policy.OFF) return;
+        lock.writeLock().lock();
+        try {
+            for (JobDocument document : event.documents()) {
+                upsert(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Duplicate job index ready: {} fingerprints", entries.size());
+    }
+
+    @EventListener
+    public void onIndexUpdated(JobIndexUpdatedEvent event) {
+        if (policy == Policy.OFF) return;
+        lock.writeLock().lock();
+        try {
+            if (event.after() != null) {
+                upsert(event.after());
+            } else if (event.before() != null) {
+                remove(event.before().id());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** The closest ACTIVE posting of the company within the configured distance, if any. */
+    public Optional<Duplicate> findDuplicate(long companyId, String title, String description, String requirements) {
+        if (policy == Policy.OFF) return Optional.empty();
+        long fingerprint = fingerprint(title, description, requirements);
+        lock.readLock().lock();
+        try {
+            Duplicate best = null;
+            for (int block = 0; block < tables.size(); block++) {
+                Set<Long> bucket = tables.get(block).get(bucketKey(companyId, fingerprint, block));
+                if (bucket == null) continue;
+                for (Long jobId : bucket) {
+                    Entry entry = entries.get(jobId);
+                    if (entry.companyId() != companyId) continue;
+                    int distance = SimHash.distance(fingerprint, entry.fingerprint());
+                    if (distance <= maxDistance && (best == null || distance < best.distance()
+                            || distance == best.distance() && jobId < best.jobId())) {
+                        best = new Duplicate(jobId, distance);
+                    }
+                }
+            }
+            return Optional.ofNullable(best);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===== MAINTENANCE =====
+
+    private void upsert(JobDocument document) {
+        remove(document.id());
+        if (!document.isActive()) return;
+        Entry entry = new Entry(document.companyId(),
+                fingerprint(document.title(), document.description(), document.requirements()));
+        entries.put(document.id(), entry);
+        for (int block = 0; block < tables.size(); block++) {
+            tables.get(block).computeIfAbsent(bucketKey(entry.companyId(), entry.fingerprint(), block),
+                    k -> new HashSet<>()).add(document.id());
+        }
+    }
+
+    private void remove(Long jobId) {
+        Entry entry = entries.remove(jobId);
+        if (entry == null) return;
+        for (int block = 0; block < tables.size(); block++) {
+            Map<Long, Set<Long>> table = tables.get(block);
+            long key = bucketKey(entry.companyId(), entry.fingerprint(), block);
+            Set<Long> bucket = table.get(key);
+            if (bucket == null) continue;
+            bucket.remove(jobId);
+            if (bucket.isEmpty()) table.remove(key);
+        }
+    }
+
+    // ===== FINGERPRINT =====
+
+    /** Title words weigh more than body words; the body also contributes word pairs so word order counts. */
+    static long fingerprint(String title, String description, String requirements) {
+        Map<String, Integer> features = new HashMap<>();
+        for (String word : Tokenizer.tokenize(title)) {
+            features.merge("t:" + word, TITLE_WEIGHT, Integer::sum);
+        }
+        addBody(features, description);
+        addBody(features, requirements);
+        return SimHash.of(features);
+    }
+
+    private static void addBody(Map<String, Integer> features, String text) {
+        List<String> words = Tokenizer.tokenize(text);
+        for (int i = 0; i < words.size(); i++) {
+            features.merge("w:" + words.get(i), 1, Integer::sum);
+            if (i + 1 < words.size()) features.merge("b:" + words.get(i) + " " + words.get(i + 1), 1, Integer::sum);
+        }
+    }
+
+    private long bucketKey(long companyId, long fingerprint, int block) {
+        int from = blockStart[block];
+        int width = blockStart[block + 1] - from;
+        long value = width == 64 ? fingerprint : (fingerprint >>> from) & ((1L << width) - 1);
+        // blocks can be up to 64 bits wide, so the key is a hash; callers recheck the company
+        return companyId * 0x9E3779B97F4A7C15L ^ value * 0xC2B2AE3D27D4EB4FL;
+    }
+}
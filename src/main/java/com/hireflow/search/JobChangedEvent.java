@@ -0,0 +1,22 @@
+package com.hireflow.search;
+
+import com.hireflow.entity.Job;
+
+/**
+ * Published by {@code JobService} whenever a job is written.
+ * {@code document} is null when the job was deleted.
+ */
+public record JobChangedEvent(Long jobId, Long companyId, JobDocument document) {
+
+    public static JobChangedEvent saved(Job job) {
+        return new JobChangedEvent(job.getId(), job.getCompany().getId(), JobDocument.from(job));
+    }
+
+    public static JobChangedEvent deleted(Job job) {
+        return new JobChangedEvent(job.getId(), job.getCompany().getId(), null);
+    }
+
+    public boolean isDeleted() {
+        return document == null;
+    }
+}
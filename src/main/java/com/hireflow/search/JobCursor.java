@@ -0,0 +1,55 @@
+package com.hireflow.search;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * Keyset position in the (createdAt DESC, id DESC) listing order.
+ * Clients only see the opaque {@link #encode()} form.
+ */
+public record JobCursor(long createdAtMillis, long jobId) {
+
+    public static final JobCursor FIRST = new JobCursor(Long.MAX_VALUE, Long.MAX_VALUE);
+
+    public static JobCursor of(LocalDateTime createdAt, long jobId) {
+        return new JobCursor(toMillis(createdAt), jobId);
+    }
+
+    /** An empty token starts from the newest job. */
+    public static JobCursor decode(String token) {
+        if (token == null || token.isBlank()) return FIRST;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            return new JobCursor(Long.parseLong(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        byte[] raw = (createdAtMillis + ":" + jobId).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    public boolean isFirst() {
+        return this.equals(FIRST);
+    }
+
+    /** Whether a job at this position comes strictly after the cursor in listing order. */
+    public boolean precedes(long otherCreatedAtMillis, long otherJobId) {
+        return otherCreatedAtMillis < createdAtMillis
+                || (otherCreatedAtMillis == createdAtMillis && otherJobId < jobId);
+    }
+
+    public LocalDateTime createdAt() {
+        return isFirst() ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(createdAtMillis), ZoneOffset.UTC);
+    }
+
+    static long toMillis(LocalDateTime time) {
+        return time == null ? 0L : time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
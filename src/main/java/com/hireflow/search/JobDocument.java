@@ -0,0 +1,74 @@
+package com.hireflow.search;
+
+import com.hireflow.entity.Job;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Immutable snapshot of the job fields the search indexes need, taken inside
+ * the writing transaction so indexes never touch lazy entity state.
+ */
+public record JobDocument(
+        Long id,
+        String title,
+        String description,
+        String requirements,
+        String location,
+        Double latitude,
+        Double longitude,
+        Job.JobType type,
+        Job.JobLevel level,
+        Job.JobCategory category,
+        Job.JobStatus status,
+        List<String> skills,
+        Long companyId,
+        String companyName,
+        Long salaryMin,
+        Long salaryMax,
+        String salaryCurrency,
+        Job.SalaryPeriod salaryPeriod,
+        LocalDateTime deadline,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) implements DocumentIndex.Indexable {
+
+    public static JobDocument from(Job job) {
+        return new JobDocument(
+                job.getId(),
+                job.getTitle(),
+                job.getDescription(),
+                job.getRequirements(),
+                job.getLocation(),
+                job.getGeo() != null ? job.getGeo().getLatitude() : null,
+                job.getGeo() != null ? job.getGeo().getLongitude() : null,
+                job.getType(),
+                job.getLevel(),
+                job.getCategory(),
+                job.getStatus(),
+                job.getSkills() != null ? List.copyOf(job.getSkills()) : List.of(),
+                job.getCompany().getId(),
+                job.getCompany().getCompanyName() != null
+                        ? job.getCompany().getCompanyName() : job.getCompany().getName(),
+                job.getSalaryMin(),
+                job.getSalaryMax(),
+                job.getSalaryCurrency(),
+                job.getSalaryPeriod(),
+                job.getDeadline(),
+                job.getCreatedAt(),
+                job.getUpdatedAt()
+        );
+    }
+
+    public boolean isActive() {
+        return status == Job.JobStatus.ACTIVE;
+    }
+
+    public boolean hasCoordinates() {
+        return latitude != null && longitude != null;
+    }
+
+    public boolean hasSalary() {
+        return salaryMin != null && salaryMax != null && salaryPeriod != null;
+    }
+}
@@ -0,0 +1,10 @@
+package com.hireflow.search;
+
+import java.util.List;
+
+/**
+ * Published once by {@link JobSearchIndex} when its startup load completes,
+ * so derived indexes can bootstrap from the same documents without reading the database.
+ */
+public record JobIndexLoadedEvent(List<JobDocument> documents) {
+}
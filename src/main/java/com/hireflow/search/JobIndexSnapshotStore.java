@@ -0,0 +1,200 @@
+package com.hireflow.search;
+
+import com.hireflow.entity.Job;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Reads and writes the on-disk segment the job search index is restored from at startup.
+ * <p>
+ * Segment layout (big-endian): magic, format version, watermark (epoch millis),
+ * document count, the documents, and a trailing CRC32 of everything before it.
+ * Segments with another version or a bad checksum are ignored, which falls back
+ * to a full load from the database.
+ */
+@Slf4j
+@Component
+public class JobIndexSnapshotStore {
+
+    private static final int MAGIC = 0x48464a53; // "HFJS"
+    private static final int FORMAT_VERSION = 4;
+    private static final String SEGMENT_FILE = "jobs.seg";
+    private static final long NO_TIME = Long.MIN_VALUE;
+    private static final long NO_SALARY = -1L;
+
+    private final Path segment;
+
+    public JobIndexSnapshotStore(@Value("${app.search.snapshot-dir:./data/search}") String snapshotDir) {
+        this.segment = Paths.get(snapshotDir, SEGMENT_FILE);
+    }
+
+    public record Snapshot(LocalDateTime watermark, List<JobDocument> documents) {
+    }
+
+    public void write(LocalDateTime watermark, List<JobDocument> documents) throws IOException {
+        Files.createDirectories(segment.getParent());
+        Path tmp = segment.resolveSibling(SEGMENT_FILE + ".tmp");
+
+        CRC32 crc = new CRC32();
+        try (OutputStream file = Files.newOutputStream(tmp);
+             DataOutputStream out = new DataOutputStream(
+                     new CheckedOutputStream(new BufferedOutputStream(file, 1 << 16), crc))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(toMillis(watermark));
+            out.writeInt(documents.size());
+            for (JobDocument doc : documents) {
+                writeDocument(out, doc);
+            }
+            out.flush();
+            // the checksum itself is written outside the checked stream
+            new DataOutputStream(file).writeLong(crc.getValue());
+        }
+        Files.move(tmp, segment, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public Optional<Snapshot> read() {
+        if (!Files.isRegularFile(segment)) return Optional.empty();
+
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.capacity() < Long.BYTES || !checksumMatches(buffer)) {
+                log.warn("Ignoring corrupt search index segment {}", segment);
+                return Optional.empty();
+            }
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                log.info("Ignoring search index segment {} written in another format", segment);
+                return Optional.empty();
+            }
+            LocalDateTime watermark = fromMillis(buffer.getLong());
+            int count = buffer.getInt();
+            List<JobDocument> documents = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                documents.add(readDocument(buffer));
+            }
+            return Optional.of(new Snapshot(watermark, documents));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not read search index segment {}: {}", segment, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static boolean checksumMatches(MappedByteBuffer buffer) {
+        int bodyLength = buffer.capacity() - Long.BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(0, bodyLength));
+        return crc.getValue() == buffer.getLong(bodyLength);
+    }
+
+    // ===== ENCODING =====
+
+    private static void writeDocument(DataOutputStream out, JobDocument doc) throws IOException {
+        out.writeLong(doc.id());
+        writeString(out, doc.title());
+        writeString(out, doc.description());
+        writeString(out, doc.requirements());
+        writeString(out, doc.location());
+        out.writeDouble(doc.latitude() != null ? doc.latitude() : Double.NaN);
+        out.writeDouble(doc.longitude() != null ? doc.longitude() : Double.NaN);
+        writeString(out, doc.type().name());
+        writeString(out, doc.level().name());
+        writeString(out, doc.category().name());
+        writeString(out, doc.status().name());
+        out.writeInt(doc.skills().size());
+        for (String skill : doc.skills()) {
+            writeString(out, skill);
+        }
+        out.writeLong(doc.companyId());
+        writeString(out, doc.companyName());
+        out.writeLong(doc.salaryMin() != null ? doc.salaryMin() : NO_SALARY);
+        out.writeLong(doc.salaryMax() != null ? doc.salaryMax() : NO_SALARY);
+        writeString(out, doc.salaryCurrency());
+        writeString(out, doc.salaryPeriod() != null ? doc.salaryPeriod().name() : null);
+        out.writeLong(toMillis(doc.deadline()));
+        out.writeLong(toMillis(doc.createdAt()));
+        out.writeLong(toMillis(doc.updatedAt()));
+    }
+
+    private static JobDocument readDocument(ByteBuffer in) {
+        long id = in.getLong();
+        String title = readString(in);
+        String description = readString(in);
+        String requirements = readString(in);
+        String location = readString(in);
+        double latitude = in.getDouble();
+        double longitude = in.getDouble();
+        Job.JobType type = Job.JobType.valueOf(readString(in));
+        Job.JobLevel level = Job.JobLevel.valueOf(readString(in));
+        Job.JobCategory category = Job.JobCategory.valueOf(readString(in));
+        Job.JobStatus status = Job.JobStatus.valueOf(readString(in));
+        int skillCount = in.getInt();
+        List<String> skills = new ArrayList<>(skillCount);
+        for (int i = 0; i < skillCount; i++) {
+            skills.add(readString(in));
+        }
+        long companyId = in.getLong();
+        String companyName = readString(in);
+        long salaryMin = in.getLong();
+        long salaryMax = in.getLong();
+        String salaryCurrency = readString(in);
+        String salaryPeriod = readString(in);
+        return new JobDocument(id, title, description, requirements, location,
+                Double.isNaN(latitude) ? null : latitude, Double.isNaN(longitude) ? null : longitude,
+                type, level, category,
+                status, List.copyOf(skills), companyId, companyName,
+                salaryMin != NO_SALARY ? salaryMin : null,
+                salaryMax != NO_SALARY ? salaryMax : null,
+                salaryCurrency,
+                salaryPeriod != null ? Job.SalaryPeriod.valueOf(salaryPeriod) : null,
+                fromMillis(in.getLong()), fromMillis(in.getLong()), fromMillis(in.getLong()));
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) return null;
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time == null ? NO_TIME : time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime fromMillis(long millis) {
+        return millis == NO_TIME ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,8 @@
+package com.hireflow.search;
+
+/**
+ * Published by {@link JobSearchIndex} after it has applied a change.
+ * {@code before} is null for a job that was not indexed; {@code after} is null when the job was deleted.
+ */
+public record JobIndexUpdatedEvent(JobDocument before, JobDocument after) {
+}
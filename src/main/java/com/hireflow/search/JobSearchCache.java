@@ -0,0 +1,163 @@
+package com.hireflow.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.hireflow.dto.response.ApiResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caches rendered /api/jobs pages by their normalized criteria.
+ * <p>
+ * Entries are weighed by an estimate of their heap size and evicted by Caffeine's
+ * W-TinyLFU policy. After each index update only the entries whose criteria the old
+ * or new version of the job matches are dropped; for faceted entries that includes
+ * jobs missing a single faceted filter, since those still count towards a facet.
+ * The TTL bounds how stale application counts in cached pages can get.
+ */
+@Component
+public class JobSearchCache {
+
+    private static final Set<CriteriaDimension> FACETED = Set.of(
+            CriteriaDimension.TYPE, CriteriaDimension.LEVEL, CriteriaDimension.CATEGORY, CriteriaDimension.LOCATION);
+    // rough per-object heap cost used by the weigher
+    private static final int OBJECT_OVERHEAD = 64;
+
+    private final Cache<Key, ApiResponse.PageResponse<ApiResponse.JobResponse>> cache;
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public JobSearchCache(@Value("${app.search.cache.max-bytes:33554432}") long maxBytes,
+                          @Value("${app.search.cache.ttl-seconds:60}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Key key, ApiResponse.PageResponse<ApiResponse.JobResponse> page) -> weigh(page))
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    public record Key(JobSearchCriteria criteria, boolean count) {
+
+        public static Key of(JobSearchCriteria c, boolean count) {
+            List<String> skills = c.skills() == null ? null : c.skills().stream()
+                    .map(Tokenizer::normalize)
+                    .filter(skill -> !skill.isEmpty())
+                    .distinct()
+                    .sorted()
+                    .toList();
+            JobSearchCriteria normalized = new JobSearchCriteria(
+                    c.hasText() ? Tokenizer.normalize(c.search()) : null,
+                    c.type(), c.level(), c.category(),
+                    c.location() != null && !c.location().isBlank() ? Tokenizer.normalize(c.location()) : null,
+                    c.near(), skills == null || skills.isEmpty() ? null : skills, c.matchAllSkills(),
+                    c.minSalary(), c.maxSalary(), c.currency(), c.effectiveSort(),
+                    c.page(), c.size(), c.cursor(), c.facets());
+            return new Key(normalized, count);
+        }
+    }
+
+    /** A computed page with the index generation it was computed from. */
+    public record Computed(long generation, ApiResponse.PageResponse<ApiResponse.JobResponse> page) {
+    }
+
+    /**
+     * Runs the computation and stamps its result with the generation current when it
+     * started. Call this inside any coalescing of the loader, so callers that join a
+     * computation already in flight carry the leader's generation rather than their own.
+     */
+    public Computed compute(Supplier<ApiResponse.PageResponse<ApiResponse.JobResponse>> computation) {
+        long started = generation.get();
+        return new Computed(started, computation.get());
+    }
+
+    /**
+     * Returns the cached page or loads and caches it. A result computed while an index
+     * update was being applied is returned but dropped from the cache, since it may
+     * predate that update.
+     */
+    public ApiResponse.PageResponse<ApiResponse.JobResponse> get(Key key, Supplier<Computed> loader) {
+        ApiResponse.PageResponse<ApiResponse.JobResponse> cached = cache.getIfPresent(key);
+        if (cached != null) return cached;
+
+        Computed computed = loader.get();
+        cache.put(key, computed.page());
+        if (generation.get() != computed.generation()) cache.invalidate(key);
+        return computed.page();
+    }
+
+    @EventListener
+    public void onIndexUpdated(JobIndexUpdatedEvent event) {
+        generation.incrementAndGet();
+        int before = cache.asMap().size();
+        cache.asMap().keySet().removeIf(key -> affects(key.criteria(), event.before())
+                || affects(key.criteria(), event.after()));
+        invalidations.addAndGet(before - cache.asMap().size());
+    }
+
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("entries", cache.estimatedSize());
+        result.put("weightBytes", cache.policy().eviction()
+                .flatMap(eviction -> eviction.weightedSize().stream().boxed().findFirst())
+                .orElse(0L));
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictions", stats.evictionCount());
+        result.put("invalidations", invalidations.get());
+        return result;
+    }
+
+    // ===== INVALIDATION =====
+
+    /**
+     * Whether the document could appear in, or be counted by, a result for the criteria.
+     * Text queries are not evaluated, so any text is treated as matching.
+     */
+    private static boolean affects(JobSearchCriteria criteria, JobDocument document) {
+        if (document == null || !document.isActive()) return false;
+        int misses = 0;
+        CriteriaDimension missed = null;
+        for (CriteriaDimension dimension : CriteriaDimension.values()) {
+            if (!dimension.matches(criteria, document)) {
+                misses++;
+                missed = dimension;
+            }
+        }
+        if (misses == 0) return true;
+        return criteria.facets() && misses == 1 && FACETED.contains(missed);
+    }
+
+    // ===== WEIGHT =====
+
+    private static int weigh(ApiResponse.PageResponse<ApiResponse.JobResponse> page) {
+        long bytes = OBJECT_OVERHEAD;
+        for (ApiResponse.JobResponse job : page.getContent()) {
+            bytes += 4 * OBJECT_OVERHEAD
+                    + chars(job.getTitle()) + chars(job.getDescription()) + chars(job.getRequirements())
+                    + chars(job.getLocation()) + chars(job.getSalary()) + chars(job.getCompanyName());
+            if (job.getSkills() != null) bytes += job.getSkills().stream().mapToLong(JobSearchCache::chars).sum();
+            if (job.getBenefits() != null) bytes += job.getBenefits().stream().mapToLong(JobSearchCache::chars).sum();
+        }
+        if (page.getFacets() != null) {
+            bytes += page.getFacets().values().stream().mapToLong(values -> values.size() * 2L * OBJECT_OVERHEAD).sum();
+        }
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+
+    private static long chars(String value) {
+        return value == null ? 0 : OBJECT_OVERHEAD + value.length();
+    }
+}
@@ -0,0 +1,24 @@
+package com.hireflow.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * GET /actuator/jobcache — hit, miss, eviction and invalidation counters of the job search cache.
+ */
+@Component
+@Endpoint(id = "jobcache")
+@RequiredArgsConstructor
+public class JobSearchCacheEndpoint {
+
+    private final JobSearchCache cache;
+
+    @ReadOperation
+    public Map<String, Object> stats() {
+        return cache.stats();
+    }
+}
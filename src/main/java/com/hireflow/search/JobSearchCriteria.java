@@ -0,0 +1,44 @@
+package com.hireflow.search;
+
+import com.hireflow.entity.Job;
+
+import java.util.List;
+
+/**
+ * Normalized form of a job listing query.
+ * A non-null {@code cursor} switches from offset paging to keyset paging in recency order.
+ * Salary bounds are annual amounts; a job matches when its range overlaps them.
+ * A non-null {@code near} keeps jobs whose resolved location lies within its radius.
+ * A null {@code sort} ranks by relevance for text queries and by recency otherwise.
+ */
+public record JobSearchCriteria(
+        String search,
+        Job.JobType type,
+        Job.JobLevel level,
+        Job.JobCategory category,
+        String location,
+        Radius near,
+        List<String> skills,
+        boolean matchAllSkills,
+        Long minSalary,
+        Long maxSalary,
+        String currency,
+        JobSort sort,
+        int page,
+        int size,
+        JobCursor cursor,
+        boolean facets
+) {
+
+    public record Radius(double latitude, double longitude, double km) {
+    }
+
+    public boolean hasText() {
+        return search != null && !search.isBlank();
+    }
+
+    public JobSort effectiveSort() {
+        if (sort != null) return sort;
+        return hasText() ? JobSort.RELEVANCE : JobSort.RECENT;
+    }
+}
@@ -0,0 +1,786 @@
+package com.hireflow.search;
+
+import com.hireflow.entity.GeoLocation;
+import com.hireflow.entity.Job;
+import com.hireflow.geo.Geohash;
+import com.hireflow.repository.JobRepository;
+import com.hireflow.util.SalaryParser;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.LongFunction;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongPredicate;
+
+/**
+ * In-memory search index over ACTIVE jobs.
+ * <p>
+ * Text queries run against a BM25 inverted index over title, description,
+ * requirements and skills; type/level/category/location/skill filters are bitmap
+ * intersections, which also makes facet counts cheap. Salary ranges are kept in
+ * sorted maps keyed by annualized amount, so a range filter is a navigable-map slice.
+ * Radius queries select geohash cells around the centre, then check the exact distance.
+ * Document bookkeeping and text scoring are shared with {@link CandidateSearchIndex}
+ * through {@link DocumentIndex}. Kept current from local {@link JobChangedEvent}s and
+ * from a periodic replay of jobs written by other nodes, and periodically written to a
+ * segment file, so a restart only replays jobs changed since the last snapshot. Every
+ * applied change is published as a {@link JobIndexUpdatedEvent}, which the derived
+ * indexes and the page cache follow.
+ */
+@Slf4j
+@Component
+public class JobSearchIndex extends DocumentIndex<JobDocument> {
+
+    private static final int LOAD_BATCH_SIZE = 500;
+    private static final int ID_BATCH_SIZE = 10_000;
+    private static final int TOP_LOCATIONS = 10;
+    private static final long NO_SALARY = Long.MIN_VALUE;
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+    // ~20 x 40 km cells; coarser cells for larger radii are prefix ranges of these
+    private static final int GEO_CELL_PRECISION = 4;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final JobRepository jobRepository;
+    private final JobIndexSnapshotStore snapshotStore;
+    private final ApplicationEventPublisher eventPublisher;
+    // jobs are re-read from this far before the watermark, for transactions that commit late
+    private final Duration replayMargin;
+    // held while a change is applied and published, so listeners see changes in index order
+    private final ReentrantLock publishLock = new ReentrantLock();
+
+    private final Map<Job.JobType, RoaringBitmap> byType = new EnumMap<>(Job.JobType.class);
+    private final Map<Job.JobLevel, RoaringBitmap> byLevel = new EnumMap<>(Job.JobLevel.class);
+    private final Map<Job.JobCategory, RoaringBitmap> byCategory = new EnumMap<>(Job.JobCategory.class);
+    private final TreeMap<Long, RoaringBitmap> byAnnualMin = new TreeMap<>();
+    private final TreeMap<Long, RoaringBitmap> byAnnualMax = new TreeMap<>();
+    private final Map<String, RoaringBitmap> byCurrency = new HashMap<>();
+    // log-domain decayed view counts pushed by JobViewTracker; survives upserts and compaction
+    private final Map<Long, Double> trendingByJobId = new HashMap<>();
+    private final TreeMap<String, RoaringBitmap> byGeoCell = new TreeMap<>();
+    private final Set<Long> touchedDuringLoad = new HashSet<>();
+    private final Map<String, Integer> locationOrdinals = new HashMap<>();
+    private final List<String> locationLabels = new ArrayList<>();
+    private long[] createdAtMillis = new long[1024];
+    private int[] locationOrds = new int[1024];
+    private long[] annualMax = new long[1024];
+    private long[] deadlineMillis = new long[1024];
+    private double[] latitudes = new double[1024];
+    private double[] longitudes = new double[1024];
+    private LocalDateTime watermark;
+
+    // newest first when reversed; ties broken by job id so keyset cursors are stable across updates
+    private final Comparator<Hit> recency = Comparator.<Hit>comparingLong(hit -> createdAtMillis[hit.docId()])
+            .thenComparingLong(hit -> documents.get(hit.docId()).id());
+    private volatile boolean ready;
+    private volatile boolean dirty;
+
+    public JobSearchIndex(JobRepository jobRepository,
+                          JobIndexSnapshotStore snapshotStore,
+                          ApplicationEventPublisher eventPublisher,
+                          @Value("${app.search.replay-margin-seconds:300}") long replayMarginSeconds) {
+        this.jobRepository = jobRepository;
+        this.snapshotStore = snapshotStore;
+        this.eventPublisher = eventPublisher;
+        this.replayMargin = Duration.ofSeconds(replayMarginSeconds);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        Optional<JobIndexSnapshotStore.Snapshot> snapshot = snapshotStore.read();
+        if (snapshot.isPresent()) {
+            restore(snapshot.get());
+        } else {
+            loadBatches(lastId -> jobRepository.findByStatusAndIdGreaterThan(
+                    Job.JobStatus.ACTIVE, lastId, PageRequest.of(0, LOAD_BATCH_SIZE, Sort.by("id"))));
+        }
+
+        List<JobDocument> loaded;
+        lock.writeLock().lock();
+        try {
+            touchedDuringLoad.clear();
+            loaded = documents.stream().filter(Objects::nonNull).toList();
+            dirty = true;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Job search index ready: {} active jobs in {} ms (from {})",
+                loaded.size(), System.currentTimeMillis() - start,
+                snapshot.isPresent() ? "snapshot" : "database");
+        eventPublisher.publishEvent(new JobIndexLoadedEvent(loaded));
+    }
+
+    /**
+     * Restores the snapshot, replays jobs written since its watermark and drops
+     * jobs that were deleted or closed while this node was down. The watermark is the
+     * latest {@code updatedAt} seen, but a transaction that stamped an earlier time may
+     * have committed after the snapshot, so the replay starts {@code replayMargin}
+     * earlier; re-reading a job is harmless.
+     */
+    private void restore(JobIndexSnapshotStore.Snapshot snapshot) {
+        lock.writeLock().lock();
+        try {
+            for (JobDocument document : snapshot.documents()) {
+                if (!touchedDuringLoad.contains(document.id())) upsert(document);
+            }
+            if (snapshot.watermark() != null) advanceWatermark(snapshot.watermark());
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (snapshot.watermark() != null) {
+            LocalDateTime replayFrom = snapshot.watermark().minus(replayMargin);
+            loadBatches(lastId -> jobRepository.findByUpdatedAtGreaterThanEqualAndIdGreaterThan(
+                    replayFrom, lastId, PageRequest.of(0, LOAD_BATCH_SIZE, Sort.by("id"))));
+        }
+
+        Roaring64NavigableMap activeIds = activeJobIds();
+        lock.writeLock().lock();
+        try {
+            List<Long> gone = docIdsById.keySet().stream()
+                    .filter(jobId -> !activeIds.contains(jobId) && !touchedDuringLoad.contains(jobId))
+                    .toList();
+            gone.forEach(this::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Roaring64NavigableMap activeJobIds() {
+        Roaring64NavigableMap activeIds = new Roaring64NavigableMap();
+        List<Long> ids;
+        long lastId = 0L;
+        do {
+            ids = jobRepository.findIdsByStatusAfter(
+                    Job.JobStatus.ACTIVE, lastId, PageRequest.of(0, ID_BATCH_SIZE));
+            ids.forEach(activeIds::addLong);
+            if (!ids.isEmpty()) lastId = ids.get(ids.size() - 1);
+        } while (ids.size() == ID_BATCH_SIZE);
+        return activeIds;
+    }
+
+    private void loadBatches(LongFunction<Slice<Job>> nextBatch) {
+        long lastId = 0L;
+        Slice<Job> batch;
+        do {
+            batch = nextBatch.apply(lastId);
+            lock.writeLock().lock();
+            try {
+                for (Job job : batch) {
+                    lastId = job.getId();
+                    if (!touchedDuringLoad.contains(job.getId())) {
+                        upsert(JobDocument.from(job));
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } while (batch.hasNext());
+    }
+
+    @Scheduled(initialDelayString = "${app.search.snapshot-interval-ms:300000}",
+            fixedDelayString = "${app.search.snapshot-interval-ms:300000}")
+    public void writeSnapshot() {
+        if (!ready || !dirty) return;
+
+        List<JobDocument> snapshot;
+        LocalDateTime mark;
+        lock.readLock().lock();
+        try {
+            snapshot = documents.stream().filter(Objects::nonNull).toList();
+            mark = watermark;
+            dirty = false;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        try {
+            snapshotStore.write(mark, snapshot);
+            log.debug("Job search index snapshot written: {} documents, watermark {}", snapshot.size(), mark);
+        } catch (IOException e) {
+            dirty = true;
+            log.warn("Could not write job search index snapshot: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        writeSnapshot();
+    }
+
+    /**
+     * Picks up jobs written through other nodes: replays, as {@link #restore} does, every
+     * job written since {@code replayMargin} before the watermark. A job is applied only
+     * when it differs from the indexed version and is not older than it, so re-reading
+     * jobs this node already has changes nothing.
+     */
+    @Scheduled(initialDelayString = "${app.search.refresh-interval-ms:30000}",
+            fixedDelayString = "${app.search.refresh-interval-ms:30000}")
+    public void refresh() {
+        if (!ready) return;
+
+        LocalDateTime replayFrom;
+        lock.readLock().lock();
+        try {
+            replayFrom = watermark != null ? watermark.minus(replayMargin) : EPOCH;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        int changed = 0;
+        long lastId = 0L;
+        Slice<Job> batch;
+        do {
+            batch = jobRepository.findByUpdatedAtGreaterThanEqualAndIdGreaterThan(
+                    replayFrom, lastId, PageRequest.of(0, LOAD_BATCH_SIZE, Sort.by("id")));
+            List<JobDocument> replayed = new ArrayList<>(batch.getNumberOfElements());
+            for (Job job : batch) {
+                lastId = job.getId();
+                replayed.add(JobDocument.from(job));
+            }
+            changed += apply(replayed);
+        } while (batch.hasNext());
+        if (changed > 0) log.debug("Job search index refreshed: {} jobs changed since {}", changed, replayFrom);
+    }
+
+    /**
+     * Drops jobs deleted through other nodes, which leave nothing for {@link #refresh} to
+     * replay. Jobs written since {@code replayMargin} before the id scan are kept: they
+     * may have been added by a transaction that committed after the scan read past them.
+     */
+    @Scheduled(initialDelayString = "${app.search.reconcile-interval-ms:300000}",
+            fixedDelayString = "${app.search.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        if (!ready) return;
+
+        LocalDateTime settled = LocalDateTime.now().minus(replayMargin);
+        Roaring64NavigableMap activeIds = activeJobIds();
+        List<JobIndexUpdatedEvent> updates = new ArrayList<>();
+        publishLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                List<JobDocument> gone = documents.stream()
+                        .filter(document -> document != null && !activeIds.contains(document.id())
+                                && document.updatedAt() != null && document.updatedAt().isBefore(settled))
+                        .toList();
+                for (JobDocument document : gone) {
+                    remove(document.id());
+                    trendingByJobId.remove(document.id());
+                    updates.add(new JobIndexUpdatedEvent(document, null));
+                }
+                if (!gone.isEmpty()) {
+                    compactIfNeeded();
+                    dirty = true;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            updates.forEach(eventPublisher::publishEvent);
+        } finally {
+            publishLock.unlock();
+        }
+        if (!updates.isEmpty()) log.debug("Job search index reconciled: {} jobs no longer active", updates.size());
+    }
+
+    /** Applies replayed documents that are newer than the indexed ones and publishes the changes. */
+    private int apply(List<JobDocument> replayed) {
+        List<JobIndexUpdatedEvent> updates = new ArrayList<>();
+        publishLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                for (JobDocument after : replayed) {
+                    if (after.updatedAt() != null) advanceWatermark(after.updatedAt());
+                    Integer docId = docIdsById.get(after.id());
+                    JobDocument before = docId != null ? documents.get(docId) : null;
+                    if (before == null ? !after.isActive() : before.equals(after) || isNewer(before, after)) {
+                        continue;
+                    }
+                    upsert(after);
+                    if (!after.isActive()) trendingByJobId.remove(after.id());
+                    updates.add(new JobIndexUpdatedEvent(before, after));
+                }
+                if (!updates.isEmpty()) {
+                    compactIfNeeded();
+                    dirty = true;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            updates.forEach(eventPublisher::publishEvent);
+        } finally {
+            publishLock.unlock();
+        }
+        return updates.size();
+    }
+
+    private static boolean isNewer(JobDocument indexed, JobDocument replayed) {
+        return indexed.updatedAt() != null && replayed.updatedAt() != null
+                && indexed.updatedAt().isAfter(replayed.updatedAt());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        publishLock.lock();
+        try {
+            JobDocument before;
+            lock.writeLock().lock();
+            try {
+                if (!ready) touchedDuringLoad.add(event.jobId());
+                Integer docId = docIdsById.get(event.jobId());
+                before = docId != null ? documents.get(docId) : null;
+                if (event.isDeleted()) {
+                    remove(event.jobId());
+                } else {
+                    upsert(event.document());
+                }
+                // only ACTIVE jobs are ranked; a reopened job gets its score back at the next view flush
+                if (event.isDeleted() || !event.document().isActive()) trendingByJobId.remove(event.jobId());
+                compactIfNeeded();
+                dirty = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            eventPublisher.publishEvent(new JobIndexUpdatedEvent(before, event.document()));
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    public JobSearchResult search(JobSearchCriteria criteria) {
+        lock.readLock().lock();
+        try {
+            List<TextIndex.QueryTerm> terms = criteria.hasText()
+                    ? text.resolve(Tokenizer.tokenize(criteria.search()))
+                    : List.of();
+            RoaringBitmap matches = live.clone();
+            for (TextIndex.QueryTerm term : terms) {
+                matches.and(text.matching(term));
+            }
+
+            Map<Dimension, RoaringBitmap> filters = filters(criteria);
+            RoaringBitmap candidates = without(matches, filters, null);
+            Map<String, Map<String, Long>> facets = criteria.facets() ? facets(matches, filters) : null;
+
+            long total = candidates.getLongCardinality();
+            if (criteria.cursor() != null) {
+                return afterCursor(candidates, criteria.cursor(), criteria.size(), total, facets);
+            }
+
+            long offset = (long) criteria.page() * criteria.size();
+            if (offset >= total) {
+                return new JobSearchResult(List.of(), total, null, facets);
+            }
+            List<Long> jobIds = topHits(candidates, terms, criteria.effectiveSort(), (int) offset, criteria.size())
+                    .stream()
+                    .map(hit -> documents.get(hit.docId()).id())
+                    .toList();
+            return new JobSearchResult(jobIds, total, null, facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Replaces the trending scores of the given jobs; scores of jobs that are not ACTIVE are dropped. */
+    public void updateTrending(Map<Long, Double> scores) {
+        lock.writeLock().lock();
+        try {
+            scores.forEach((jobId, score) -> {
+                if (!ready || docIdsById.containsKey(jobId)) trendingByJobId.put(jobId, score);
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks ACTIVE jobs sharing at least one skill with the profile. Only the union of
+     * the profile's skill posting lists is scored, and a bounded heap keeps the best
+     * {@code limit}. Skill overlap is IDF weighted, so a shared rare skill counts for
+     * more than a shared common one, and damped by the share of the job's skills the
+     * profile lacks. Jobs matching {@code exclude}, such as those already applied to, are
+     * skipped before scoring, so they do not take places in the result.
+     */
+    public List<Recommendation> recommend(RecommendationProfile profile, LongPredicate exclude, int limit) {
+        lock.readLock().lock();
+        try {
+            List<String> keys = profile.skills().stream()
+                    .map(Tokenizer::normalize)
+                    .filter(bySkill::containsKey)
+                    .distinct()
+                    .toList();
+            if (keys.isEmpty()) return List.of();
+
+            int liveCount = live.getCardinality();
+            RoaringBitmap[] postings = new RoaringBitmap[keys.size()];
+            double[] idf = new double[keys.size()];
+            double profileWeight = 0;
+            for (int i = 0; i < keys.size(); i++) {
+                postings[i] = bySkill.get(keys.get(i));
+                idf[i] = Math.log(1 + (double) liveCount / postings[i].getCardinality());
+                profileWeight += idf[i];
+            }
+            RoaringBitmap remote = RoaringBitmap.or(bitmapOf(byType, Job.JobType.REMOTE),
+                    byLocationTerm.getOrDefault("remote", new RoaringBitmap()));
+
+            double weight = profileWeight;
+            Comparator<Hit> order = Comparator.comparingDouble(Hit::score).thenComparing(recency);
+            PriorityQueue<Hit> heap = new PriorityQueue<>(limit + 1, order);
+            FastAggregation.or(postings).forEach((int docId) -> {
+                JobDocument document = documents.get(docId);
+                if (exclude.test(document.id())) return;
+                double matched = 0;
+                int matchedCount = 0;
+                for (int i = 0; i < postings.length; i++) {
+                    if (postings[i].contains(docId)) {
+                        matched += idf[i];
+                        matchedCount++;
+                    }
+                }
+                double skillFit = matched / weight
+                        * Math.sqrt((double) matchedCount / Math.max(matchedCount, document.skills().size()));
+                double score = MatchScoring.combine(skillFit,
+                        MatchScoring.levelFit(profile.level(), document.level()),
+                        MatchScoring.locationFit(profile.latitude(), profile.longitude(),
+                                document.latitude(), document.longitude(), remote.contains(docId)));
+                offer(heap, new Hit(docId, (float) score), limit, order);
+            });
+
+            List<Hit> ranked = new ArrayList<>(heap);
+            ranked.sort(order.reversed());
+            Set<String> wanted = Set.copyOf(keys);
+            return ranked.stream()
+                    .map(hit -> {
+                        JobDocument document = documents.get(hit.docId());
+                        List<String> matchedSkills = document.skills().stream()
+                                .filter(skill -> wanted.contains(Tokenizer.normalize(skill)))
+                                .toList();
+                        return new Recommendation(document.id(), hit.score(), matchedSkills);
+                    })
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===== QUERY =====
+
+    private Map<Dimension, RoaringBitmap> filters(JobSearchCriteria criteria) {
+        Map<Dimension, RoaringBitmap> filters = new EnumMap<>(Dimension.class);
+        if (criteria.type() != null) filters.put(Dimension.TYPE, bitmapOf(byType, criteria.type()));
+        if (criteria.level() != null) filters.put(Dimension.LEVEL, bitmapOf(byLevel, criteria.level()));
+        if (criteria.category() != null) filters.put(Dimension.CATEGORY, bitmapOf(byCategory, criteria.category()));
+        if (criteria.location() != null && !criteria.location().isBlank()) {
+            List<String> tokens = Tokenizer.tokenize(criteria.location());
+            RoaringBitmap location = live.clone();
+            for (int i = 0; i < tokens.size(); i++) {
+                // the last token is matched as a prefix, so "san fran" still finds "San Francisco"
+                location.and(i == tokens.size() - 1
+                        ? locationPrefix(tokens.get(i))
+                        : byLocationTerm.getOrDefault(tokens.get(i), new RoaringBitmap()));
+            }
+            filters.put(Dimension.LOCATION, location);
+        }
+        if (criteria.near() != null) {
+            filters.put(Dimension.RADIUS, radiusFilter(criteria.near()));
+        }
+        if (criteria.skills() != null && !criteria.skills().isEmpty()) {
+            filters.put(Dimension.SKILLS, skillFilter(criteria.skills(), criteria.matchAllSkills()));
+        }
+        if (criteria.minSalary() != null || criteria.maxSalary() != null) {
+            filters.put(Dimension.SALARY, salaryFilter(criteria.minSalary(), criteria.maxSalary()));
+        }
+        if (criteria.currency() != null) {
+            filters.put(Dimension.CURRENCY, bitmapOf(byCurrency, criteria.currency()));
+        }
+        return filters;
+    }
+
+    /** Intersects the text matches with every filter except {@code excluded}. */
+    private static RoaringBitmap without(RoaringBitmap matches, Map<Dimension, RoaringBitmap> filters,
+                                         Dimension excluded) {
+        RoaringBitmap result = matches.clone();
+        filters.forEach((dimension, docs) -> {
+            if (dimension != excluded) result.and(docs);
+        });
+        return result;
+    }
+
+    /**
+     * Facet counts are disjunctive: each dimension is counted with every filter
+     * applied except its own, so the UI can show what selecting another value yields.
+     */
+    private Map<String, Map<String, Long>> facets(RoaringBitmap matches, Map<Dimension, RoaringBitmap> filters) {
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        facets.put("type", enumCounts(Job.JobType.values(), byType, without(matches, filters, Dimension.TYPE)));
+        facets.put("level", enumCounts(Job.JobLevel.values(), byLevel, without(matches, filters, Dimension.LEVEL)));
+        facets.put("category", enumCounts(Job.JobCategory.values(), byCategory,
+                without(matches, filters, Dimension.CATEGORY)));
+        facets.put("location", topLocations(without(matches, filters, Dimension.LOCATION)));
+        return facets;
+    }
+
+    private static <E extends Enum<E>> Map<String, Long> enumCounts(E[] values, Map<E, RoaringBitmap> index,
+                                                                   RoaringBitmap base) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (E value : values) {
+            counts.put(value.name(), (long) RoaringBitmap.andCardinality(base, bitmapOf(index, value)));
+        }
+        return counts;
+    }
+
+    private Map<String, Long> topLocations(RoaringBitmap base) {
+        long[] counts = new long[locationLabels.size()];
+        base.forEach((int docId) -> counts[locationOrds[docId]]++);
+
+        PriorityQueue<Integer> top = new PriorityQueue<>(Comparator.comparingLong(ord -> counts[ord]));
+        for (int ord = 0; ord < counts.length; ord++) {
+            if (counts[ord] == 0) continue;
+            top.add(ord);
+            if (top.size() > TOP_LOCATIONS) top.poll();
+        }
+        List<Integer> ordered = new ArrayList<>(top);
+        ordered.sort(Comparator.comparingLong((Integer ord) -> counts[ord]).reversed());
+
+        Map<String, Long> result = new LinkedHashMap<>();
+        ordered.forEach(ord -> result.put(locationLabels.get(ord), counts[ord]));
+        return result;
+    }
+
+    /**
+     * Jobs whose annual range overlaps [min, max]: annual max at or above min and annual
+     * min at or below max. Each bound is one tail/head slice of a sorted map.
+     */
+    private RoaringBitmap salaryFilter(Long min, Long max) {
+        RoaringBitmap result = null;
+        if (min != null) {
+            result = FastAggregation.or(byAnnualMax.tailMap(min, true).values().iterator());
+        }
+        if (max != null) {
+            RoaringBitmap atMost = FastAggregation.or(byAnnualMin.headMap(max, true).values().iterator());
+            result = result == null ? atMost : RoaringBitmap.and(result, atMost);
+        }
+        return result;
+    }
+
+    /**
+     * Candidates come from the cell around the centre and its eight neighbours, at the
+     * finest precision whose cells are at least as large as the radius; the exact
+     * distance check then drops the corners.
+     */
+    private RoaringBitmap radiusFilter(JobSearchCriteria.Radius radius) {
+        double worstLatitude = Math.min(89.9, Math.abs(radius.latitude()) + radius.km() / 111.32);
+        int precision = GEO_CELL_PRECISION;
+        while (precision > 0 && Geohash.cellSizeKm(precision, worstLatitude) < radius.km()) {
+            precision--;
+        }
+
+        RoaringBitmap cells = new RoaringBitmap();
+        if (precision == 0) {
+            byGeoCell.values().forEach(cells::or);
+        } else {
+            for (String cell : Geohash.neighbourhood(radius.latitude(), radius.longitude(), precision)) {
+                byGeoCell.subMap(cell, cell + Character.MAX_VALUE).values().forEach(cells::or);
+            }
+        }
+
+        RoaringBitmap within = new RoaringBitmap();
+        cells.forEach((int docId) -> {
+            if (GeoLocation.distanceKm(radius.latitude(), radius.longitude(),
+                    latitudes[docId], longitudes[docId]) <= radius.km()) {
+                within.add(docId);
+            }
+        });
+        return within;
+    }
+
+    private List<Hit> topHits(RoaringBitmap candidates, List<TextIndex.QueryTerm> terms, JobSort sort,
+                              int offset, int size) {
+        int limit = offset + size;
+        Comparator<Hit> order = ordering(sort);
+        boolean scored = sort == JobSort.RELEVANCE && !terms.isEmpty();
+        PriorityQueue<Hit> heap = new PriorityQueue<>(Math.min(limit, 1024), order);
+        candidates.forEach((int docId) -> {
+            float score = scored ? text.score(docId, terms) : 0f;
+            offer(heap, new Hit(docId, score), limit, order);
+        });
+
+        List<Hit> ranked = new ArrayList<>(heap);
+        ranked.sort(order.reversed());
+        return ranked.subList(Math.min(offset, ranked.size()), ranked.size());
+    }
+
+    /** Ascending order of hit quality, so the heap head is the weakest hit kept. */
+    private Comparator<Hit> ordering(JobSort sort) {
+        return switch (sort) {
+            case RELEVANCE -> Comparator.comparingDouble(Hit::score).thenComparing(recency);
+            case RECENT -> recency;
+            case SALARY -> Comparator.<Hit>comparingLong(hit -> annualMax[hit.docId()]).thenComparing(recency);
+            case DEADLINE -> Comparator.<Hit>comparingLong(hit -> deadlineMillis[hit.docId()]).reversed()
+                    .thenComparing(recency);
+            case TRENDING -> Comparator.<Hit>comparingDouble(hit -> trendingByJobId.getOrDefault(
+                    documents.get(hit.docId()).id(), Double.NEGATIVE_INFINITY)).thenComparing(recency);
+        };
+    }
+
+    /**
+     * Keyset page in recency order: the newest {@code size} candidates older than the cursor.
+     * Costs the same on any page, since no skipped rows are ranked.
+     */
+    private JobSearchResult afterCursor(RoaringBitmap candidates, JobCursor cursor, int size, long total,
+                                        Map<String, Map<String, Long>> facets) {
+        PriorityQueue<Hit> heap = new PriorityQueue<>(size + 1, recency);
+        candidates.forEach((int docId) -> {
+            if (cursor.precedes(createdAtMillis[docId], documents.get(docId).id())) {
+                offer(heap, new Hit(docId, 0f), size + 1, recency);
+            }
+        });
+
+        List<Hit> ranked = new ArrayList<>(heap);
+        ranked.sort(recency.reversed());
+        boolean hasMore = ranked.size() > size;
+        List<Hit> page = hasMore ? ranked.subList(0, size) : ranked;
+
+        JobCursor next = null;
+        if (hasMore) {
+            Hit last = page.get(page.size() - 1);
+            next = new JobCursor(createdAtMillis[last.docId()], documents.get(last.docId()).id());
+        }
+        List<Long> jobIds = page.stream().map(hit -> documents.get(hit.docId()).id()).toList();
+        return new JobSearchResult(jobIds, total, next, facets);
+    }
+
+    // ===== MAINTENANCE =====
+
+    @Override
+    protected void upsert(JobDocument document) {
+        if (document.updatedAt() != null) advanceWatermark(document.updatedAt());
+        super.upsert(document);
+    }
+
+    @Override
+    protected boolean isIndexed(JobDocument document) {
+        return document.isActive();
+    }
+
+    @Override
+    protected List<String> bodyTexts(JobDocument document) {
+        return Arrays.asList(document.description(), document.requirements());
+    }
+
+    @Override
+    protected void onAdded(int docId, JobDocument document) {
+        if (docId >= createdAtMillis.length) {
+            createdAtMillis = Arrays.copyOf(createdAtMillis, createdAtMillis.length * 2);
+        }
+        createdAtMillis[docId] = JobCursor.toMillis(document.createdAt());
+        if (docId >= annualMax.length) {
+            annualMax = Arrays.copyOf(annualMax, annualMax.length * 2);
+            deadlineMillis = Arrays.copyOf(deadlineMillis, deadlineMillis.length * 2);
+        }
+        if (docId >= latitudes.length) {
+            latitudes = Arrays.copyOf(latitudes, latitudes.length * 2);
+            longitudes = Arrays.copyOf(longitudes, longitudes.length * 2);
+        }
+        if (document.hasCoordinates()) {
+            latitudes[docId] = document.latitude();
+            longitudes[docId] = document.longitude();
+            byGeoCell.computeIfAbsent(geoCellOf(document), k -> new RoaringBitmap()).add(docId);
+        }
+        deadlineMillis[docId] = document.deadline() != null ? JobCursor.toMillis(document.deadline()) : NO_DEADLINE;
+        annualMax[docId] = NO_SALARY;
+        if (document.hasSalary()) {
+            long min = SalaryParser.annualize(document.salaryMin(), document.salaryPeriod());
+            long max = SalaryParser.annualize(document.salaryMax(), document.salaryPeriod());
+            annualMax[docId] = max;
+            byAnnualMin.computeIfAbsent(min, k -> new RoaringBitmap()).add(docId);
+            byAnnualMax.computeIfAbsent(max, k -> new RoaringBitmap()).add(docId);
+            if (document.salaryCurrency() != null) {
+                byCurrency.computeIfAbsent(document.salaryCurrency(), k -> new RoaringBitmap()).add(docId);
+            }
+        }
+
+        byType.computeIfAbsent(document.type(), k -> new RoaringBitmap()).add(docId);
+        byLevel.computeIfAbsent(document.level(), k -> new RoaringBitmap()).add(docId);
+        byCategory.computeIfAbsent(document.category(), k -> new RoaringBitmap()).add(docId);
+        if (docId >= locationOrds.length) {
+            locationOrds = Arrays.copyOf(locationOrds, locationOrds.length * 2);
+        }
+        locationOrds[docId] = locationOrdinals.computeIfAbsent(Tokenizer.normalize(document.location()), key -> {
+            locationLabels.add(document.location().trim());
+            return locationLabels.size() - 1;
+        });
+    }
+
+    @Override
+    protected void onRemoved(int docId, JobDocument document) {
+        bitmapOf(byType, document.type()).remove(docId);
+        bitmapOf(byLevel, document.level()).remove(docId);
+        bitmapOf(byCategory, document.category()).remove(docId);
+        if (document.hasCoordinates()) removeFrom(byGeoCell, geoCellOf(document), docId);
+        if (document.hasSalary()) {
+            removeFrom(byAnnualMin, SalaryParser.annualize(document.salaryMin(), document.salaryPeriod()), docId);
+            removeFrom(byAnnualMax, annualMax[docId], docId);
+            if (document.salaryCurrency() != null) removeFrom(byCurrency, document.salaryCurrency(), docId);
+        }
+    }
+
+    @Override
+    protected void clearPostings() {
+        byType.clear();
+        byLevel.clear();
+        byCategory.clear();
+        byAnnualMin.clear();
+        byAnnualMax.clear();
+        byCurrency.clear();
+        byGeoCell.clear();
+    }
+
+    private void advanceWatermark(LocalDateTime time) {
+        if (watermark == null || time.isAfter(watermark)) watermark = time;
+    }
+
+    private static String geoCellOf(JobDocument document) {
+        return Geohash.encode(document.latitude(), document.longitude(), GEO_CELL_PRECISION);
+    }
+
+    private enum Dimension {
+        TYPE, LEVEL, CATEGORY, LOCATION, SKILLS, RADIUS, SALARY, CURRENCY
+    }
+}
@@ -0,0 +1,16 @@
+package com.hireflow.search;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @param nextCursor position after the last hit in keyset mode, or null on the last page
+ * @param facets     counts per facet value, or null when facets were not requested
+ */
+public record JobSearchResult(
+        List<Long> jobIds,
+        long totalElements,
+        JobCursor nextCursor,
+        Map<String, Map<String, Long>> facets
+) {
+}
@@ -0,0 +1,17 @@
+package com.hireflow.search;
+
+/**
+ * Result orderings of a job search. Ties are always broken newest first.
+ */
+public enum JobSort {
+    /** BM25 score of the text query. */
+    RELEVANCE,
+    /** Newest first; the only order keyset cursors support. */
+    RECENT,
+    /** Highest annual maximum first; jobs without a parsed salary last. */
+    SALARY,
+    /** Soonest application deadline first; jobs without a deadline last. */
+    DEADLINE,
+    /** Most viewed recently, by exponentially decayed view count; jobs never viewed last. */
+    TRENDING
+}
@@ -0,0 +1,257 @@
+package com.hireflow.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Prefix index behind search-box autocomplete.
+ * <p>
+ * A character trie over titles, skills, locations and company names, each weighted
+ * by the number of ACTIVE jobs carrying it. Every node caches the top suggestions of
+ * its subtree; a write only invalidates the nodes on the changed term's path, and a
+ * stale node is rebuilt from its children's cached lists rather than by walking the
+ * whole subtree.
+ */
+@Slf4j
+@Component
+public class JobSuggestIndex {
+
+    public static final int MAX_SUGGESTIONS = 20;
+
+    public enum Kind {
+        TITLE, SKILL, LOCATION, COMPANY
+    }
+
+    public record Suggestion(String text, Kind kind, long count) {
+    }
+
+    private static final Comparator<Suggestion> BY_COUNT = Comparator.comparingLong(Suggestion::count).reversed()
+            .thenComparing(Suggestion::text);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+    private final Map<Long, Set<Term>> termsByJobId = new HashMap<>();
+    private final Map<Term, Long> counts = new HashMap<>();
+
+    @EventListener
+    public void onIndexLoaded(JobIndexLoadedEvent event) {
+        lock.writeLock().lock();
+        try {
+            for (JobDocument document : event.documents()) {
+                upsert(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Job suggest index ready: {} terms", counts.size());
+    }
+
+    @EventListener
+    public void onIndexUpdated(JobIndexUpdatedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (event.after() != null) {
+                upsert(event.after());
+            } else if (event.before() != null) {
+                remove(event.before().id());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) return List.of();
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            if (node == null) return List.of();
+            List<Suggestion> top = topOf(node);
+            return top.subList(0, Math.min(limit, top.size()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===== MAINTENANCE =====
+
+    private void upsert(JobDocument document) {
+        remove(document.id());
+        if (!document.isActive()) return;
+
+        Set<Term> terms = new LinkedHashSet<>();
+        addTerm(terms, Kind.TITLE, document.title());
+        addTerm(terms, Kind.LOCATION, document.location());
+        addTerm(terms, Kind.COMPANY, document.companyName());
+        document.skills().forEach(skill -> addTerm(terms, Kind.SKILL, skill));
+
+        termsByJobId.put(document.id(), terms);
+        for (Term term : terms) {
+            counts.merge(term, 1L, Long::sum);
+            updateTerm(term);
+        }
+    }
+
+    private void remove(Long jobId) {
+        Set<Term> terms = termsByJobId.remove(jobId);
+        if (terms == null) return;
+        for (Term term : terms) {
+            counts.computeIfPresent(term, (t, count) -> count > 1 ? count - 1 : null);
+            updateTerm(term);
+        }
+    }
+
+    private static void addTerm(Set<Term> terms, Kind kind, String text) {
+        if (text == null || text.isBlank()) return;
+        terms.add(new Term(kind, normalize(text), text.trim()));
+    }
+
+    /**
+     * Writes the term's current count at every key it is reachable from. Titles and
+     * company names are also keyed from each later word, so "dev" finds "Senior Developer".
+     */
+    private void updateTerm(Term term) {
+        Long count = counts.get(term);
+        for (String key : keysOf(term)) {
+            List<Node> path = new ArrayList<>(key.length() + 1);
+            Node node = root;
+            path.add(node);
+            for (int i = 0; i < key.length(); i++) {
+                node = count != null ? node.getOrAddChild(key.charAt(i)) : node.child(key.charAt(i));
+                if (node == null) break;
+                path.add(node);
+            }
+            if (node == null) continue;
+
+            if (count != null) {
+                node.terminals.put(term, new Suggestion(term.display(), term.kind(), count));
+            } else {
+                node.terminals.remove(term);
+            }
+            for (int i = path.size() - 1; i >= 0; i--) {
+                Node current = path.get(i);
+                current.top = null;
+                if (i > 0 && current.isEmpty()) {
+                    path.get(i - 1).removeChild(key.charAt(i - 1));
+                }
+            }
+        }
+    }
+
+    private static List<String> keysOf(Term term) {
+        if (term.kind() != Kind.TITLE && term.kind() != Kind.COMPANY) return List.of(term.key());
+        List<String> keys = new ArrayList<>();
+        String key = term.key();
+        keys.add(key);
+        for (int i = key.indexOf(' '); i >= 0; i = key.indexOf(' ', i + 1)) {
+            keys.add(key.substring(i + 1));
+        }
+        return keys;
+    }
+
+    /** Called under the read lock; concurrent readers may rebuild the same node, with the same result. */
+    private List<Suggestion> topOf(Node node) {
+        List<Suggestion> top = node.top;
+        if (top != null) return top;
+
+        List<Suggestion> candidates = new ArrayList<>(node.terminals.values());
+        for (Node child : node.children) {
+            candidates.addAll(topOf(child));
+        }
+        candidates.sort(BY_COUNT);
+        Set<String> seen = new HashSet<>();
+        List<Suggestion> result = new ArrayList<>(MAX_SUGGESTIONS);
+        for (Suggestion suggestion : candidates) {
+            if (result.size() == MAX_SUGGESTIONS) break;
+            // the same title can be reached through several word keys under one node
+            if (seen.add(suggestion.kind() + ":" + suggestion.text())) result.add(suggestion);
+        }
+        top = List.copyOf(result);
+        node.top = top;
+        return top;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) return "";
+        return text.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+
+    private record Term(Kind kind, String key, String display) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Term other && kind == other.kind && key.equals(other.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * kind.hashCode() + key.hashCode();
+        }
+    }
+
+    private static final class Node {
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private final Map<Term, Suggestion> terminals = new HashMap<>(2);
+        private volatile List<Suggestion> top;
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node getOrAddChild(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i >= 0) return children[i];
+            int at = -i - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, at);
+            System.arraycopy(children, 0, newChildren, 0, at);
+            newKeys[at] = c;
+            newChildren[at] = new Node();
+            System.arraycopy(keys, at, newKeys, at + 1, keys.length - at);
+            System.arraycopy(children, at, newChildren, at + 1, children.length - at);
+            keys = newKeys;
+            children = newChildren;
+            return newChildren[at];
+        }
+
+        void removeChild(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i < 0) return;
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, i);
+            System.arraycopy(children, 0, newChildren, 0, i);
+            System.arraycopy(keys, i + 1, newKeys, i, keys.length - i - 1);
+            System.arraycopy(children, i + 1, newChildren, i, children.length - i - 1);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        boolean isEmpty() {
+            return keys.length == 0 && terminals.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.hireflow.search;
+
+import com.hireflow.entity.JobViewStats;
+import com.hireflow.repository.JobRepository;
+import com.hireflow.repository.JobViewStatsRepository;
+import com.hireflow.util.HyperLogLog;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Counts job detail views in memory and flushes them to {@code job_view_stats} in batches.
+ * <p>
+ * A view is a {@link LongAdder} increment plus a {@link HyperLogLog} add for the viewer,
+ * both lock-free. The flush swaps in a fresh buffer, merges the old one into the stored
+ * counters and sketches, and pushes new trending scores to {@link JobSearchIndex}. A view
+ * racing with the swap may be dropped, which is acceptable for these statistics.
+ * <p>
+ * Several nodes flush into the same rows: view counts are added with an atomic UPDATE,
+ * and the sketch and score merge is guarded by the row version. A batch that loses a
+ * race is retried from freshly read rows, and after the last attempt its views go back
+ * into the buffer for the next flush.
+ * <p>
+ * Scores flushed by other nodes are read back from the rows they updated, so every
+ * node ranks by the views of all of them.
+ * <p>
+ * The trending score is the view count decayed with the configured half-life, kept as
+ * {@code ln(score) + lambda * t}: every score then decays at the same rate, so scores
+ * written at different times stay comparable without ever being rewritten.
+ */
+@Slf4j
+@Component
+public class JobViewTracker {
+
+    private static final int FLUSH_BATCH_SIZE = 500;
+    private static final int MAX_FLUSH_ATTEMPTS = 3;
+    private static final Instant EPOCH = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final JobViewStatsRepository statsRepository;
+    private final JobRepository jobRepository;
+    private final JobSearchIndex jobSearchIndex;
+    private final TransactionTemplate transaction;
+    private final double lambdaPerHour;
+    // rows are re-read from this far before the last read, for flushes that commit late
+    private final Duration refreshMargin;
+    private volatile LocalDateTime scoresReadAt;
+    private final AtomicReference<Map<Long, PendingViews>> pending = new AtomicReference<>(new ConcurrentHashMap<>());
+
+    public JobViewTracker(JobViewStatsRepository statsRepository,
+                          JobRepository jobRepository,
+                          JobSearchIndex jobSearchIndex,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${app.trending.half-life-hours:24}") double halfLifeHours,
+                          @Value("${app.search.replay-margin-seconds:300}") long refreshMarginSeconds) {
+        this.statsRepository = statsRepository;
+        this.jobRepository = jobRepository;
+        this.jobSearchIndex = jobSearchIndex;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.lambdaPerHour = Math.log(2) / halfLifeHours;
+        this.refreshMargin = Duration.ofSeconds(refreshMarginSeconds);
+    }
+
+    private record PendingViews(LongAdder views, HyperLogLog viewers) {
+    }
+
+    public void recordView(Long jobId, String viewer) {
+        Map<Long, PendingViews> buffer = pending.get();
+        PendingViews views = buffer.get(jobId);
+        if (views == null) {
+            views = buffer.computeIfAbsent(jobId, id -> new PendingViews(new LongAdder(), new HyperLogLog()));
+        }
+        views.views().increment();
+        views.viewers().add(viewer);
+    }
+
+    @EventListener
+    public void onIndexLoaded(JobIndexLoadedEvent event) {
+        scoresReadAt = LocalDateTime.now();
+        Map<Long, Double> scores = toScores(statsRepository.findAllTrendingScores());
+        jobSearchIndex.updateTrending(scores);
+        log.info("Trending scores loaded for {} jobs", scores.size());
+    }
+
+    /** Pushes the scores other nodes flushed since the last read into the index. */
+    @Scheduled(initialDelayString = "${app.trending.refresh-interval-ms:60000}",
+            fixedDelayString = "${app.trending.refresh-interval-ms:60000}")
+    public void refreshScores() {
+        LocalDateTime since = scoresReadAt;
+        if (since == null) return;
+
+        scoresReadAt = LocalDateTime.now();
+        Map<Long, Double> scores = toScores(statsRepository.findTrendingScoresUpdatedSince(since.minus(refreshMargin)));
+        jobSearchIndex.updateTrending(scores);
+        log.debug("Trending scores refreshed for {} jobs", scores.size());
+    }
+
+    @Scheduled(initialDelayString = "${app.trending.flush-interval-ms:60000}",
+            fixedDelayString = "${app.trending.flush-interval-ms:60000}")
+    public void flush() {
+        Map<Long, PendingViews> buffer = pending.getAndSet(new ConcurrentHashMap<>());
+        if (buffer.isEmpty()) return;
+
+        double now = Duration.between(EPOCH, Instant.now()).toMillis() / 3_600_000.0;
+        List<Long> jobIds = new ArrayList<>(buffer.keySet());
+        Map<Long, Double> scores = new HashMap<>();
+        for (int from = 0; from < jobIds.size(); from += FLUSH_BATCH_SIZE) {
+            List<Long> batch = jobIds.subList(from, Math.min(from + FLUSH_BATCH_SIZE, jobIds.size()));
+            scores.putAll(flushWithRetry(batch, buffer, now));
+        }
+        jobSearchIndex.updateTrending(scores);
+        log.debug("Flushed views of {} jobs", scores.size());
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    private Map<Long, Double> flushWithRetry(List<Long> jobIds, Map<Long, PendingViews> buffer, double now) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transaction.execute(status -> flushBatch(jobIds, buffer, now));
+            } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+                // another node updated or created some of these rows first
+                if (attempt == MAX_FLUSH_ATTEMPTS) {
+                    log.warn("Could not flush views of {} jobs after {} attempts, keeping them for the next flush",
+                            jobIds.size(), attempt);
+                    requeue(jobIds, buffer);
+                    return Map.of();
+                }
+            }
+        }
+    }
+
+    private void requeue(List<Long> jobIds, Map<Long, PendingViews> flushed) {
+        Map<Long, PendingViews> buffer = pending.get();
+        for (Long jobId : jobIds) {
+            PendingViews views = flushed.get(jobId);
+            PendingViews current = buffer.computeIfAbsent(jobId, id -> new PendingViews(new LongAdder(), new HyperLogLog()));
+            current.views().add(views.views().sum());
+            current.viewers().merge(views.viewers().toBytes());
+        }
+    }
+
+    private Map<Long, Double> flushBatch(List<Long> jobIds, Map<Long, PendingViews> buffer, double now) {
+        // views of jobs deleted since are dropped
+        Set<Long> existing = new HashSet<>(jobRepository.findExistingIds(jobIds));
+        Map<Long, JobViewStats> stored = statsRepository.findAllById(existing).stream()
+                .collect(Collectors.toMap(JobViewStats::getJobId, Function.identity()));
+
+        Map<Long, Double> scores = new HashMap<>();
+        List<JobViewStats> updated = new ArrayList<>(existing.size());
+        Map<Long, Long> addedViews = new HashMap<>();
+        for (Long jobId : existing) {
+            PendingViews views = buffer.get(jobId);
+            long count = views.views().sum();
+            JobViewStats stats = stored.get(jobId);
+            if (stats == null) {
+                stats = JobViewStats.builder()
+                        .job(jobRepository.getReferenceById(jobId))
+                        .viewCount(count)
+                        .trendingScore(Double.NEGATIVE_INFINITY)
+                        .build();
+            } else {
+                addedViews.put(jobId, count);
+            }
+            HyperLogLog viewers = HyperLogLog.fromBytes(stats.getViewerSketch());
+            viewers.merge(views.viewers().toBytes());
+
+            stats.setViewerSketch(viewers.toBytes());
+            stats.setUniqueViewers(viewers.estimate());
+            stats.setTrendingScore(logAdd(stats.getTrendingScore(), Math.log(count) + lambdaPerHour * now));
+            updated.add(stats);
+            scores.put(jobId, stats.getTrendingScore());
+        }
+        statsRepository.saveAll(updated);
+        // flushes the version-checked updates and inserts above first
+        addedViews.forEach(statsRepository::addViews);
+        return scores;
+    }
+
+    private static Map<Long, Double> toScores(List<JobViewStatsRepository.TrendingRow> rows) {
+        return rows.stream().collect(Collectors.toMap(JobViewStatsRepository.TrendingRow::getJobId,
+                JobViewStatsRepository.TrendingRow::getTrendingScore));
+    }
+
+    /** ln(e^a + e^b) without overflow. */
+    private static double logAdd(double a, double b) {
+        if (a == Double.NEGATIVE_INFINITY) return b;
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.exp(Math.min(a, b) - max));
+    }
+}
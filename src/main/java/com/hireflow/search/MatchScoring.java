@@ -0,0 +1,60 @@
+package com.hireflow.search;
+
+import com.hireflow.entity.GeoLocation;
+import com.hireflow.entity.Job;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * How well a person fits a job, shared by job recommendations and applicant ranking.
+ * Every fit is in [0, 1]; an unknown level or location scores a neutral 0.5.
+ */
+public final class MatchScoring {
+
+    public static final double SKILL_WEIGHT = 0.7;
+    public static final double LEVEL_WEIGHT = 0.15;
+    public static final double LOCATION_WEIGHT = 0.15;
+
+    private static final double COMMUTE_KM = 30;
+    private static final double LOCATION_DECAY_KM = 150;
+
+    private MatchScoring() {
+    }
+
+    public static double combine(double skillFit, double levelFit, double locationFit) {
+        return SKILL_WEIGHT * skillFit + LEVEL_WEIGHT * levelFit + LOCATION_WEIGHT * locationFit;
+    }
+
+    /** 1 for the same level, falling linearly to 0 four levels apart. */
+    public static double levelFit(Job.JobLevel wanted, Job.JobLevel level) {
+        if (wanted == null || level == null) return 0.5;
+        int distance = Math.abs(wanted.ordinal() - level.ordinal());
+        return 1.0 - distance / (double) (Job.JobLevel.values().length - 1);
+    }
+
+    /** 1 for remote jobs and within commuting distance, then decaying with distance. */
+    public static double locationFit(Double lat1, Double lon1, Double lat2, Double lon2, boolean remote) {
+        if (remote) return 1.0;
+        if (lat1 == null || lon1 == null || lat2 == null || lon2 == null) return 0.5;
+        double km = GeoLocation.distanceKm(lat1, lon1, lat2, lon2);
+        return km <= COMMUTE_KM ? 1.0 : Math.exp(-(km - COMMUTE_KM) / LOCATION_DECAY_KM);
+    }
+
+    public static boolean isRemote(Job.JobType type, String location) {
+        return type == Job.JobType.REMOTE || Tokenizer.tokenize(location).contains("remote");
+    }
+
+    /** Seniority implied by a title such as "Senior Backend Engineer"; null when there is no title. */
+    public static Job.JobLevel levelOf(String title) {
+        if (title == null) return null;
+        List<String> words = Tokenizer.tokenize(title.toLowerCase(Locale.ROOT));
+        if (words.stream().anyMatch(w -> w.matches("chief|cto|ceo|vp|director|head"))) return Job.JobLevel.EXECUTIVE;
+        if (words.stream().anyMatch(w -> w.matches("lead|principal|staff|architect|manager"))) return Job.JobLevel.LEAD;
+        if (words.stream().anyMatch(w -> w.matches("senior|sr"))) return Job.JobLevel.SENIOR;
+        if (words.stream().anyMatch(w -> w.matches("junior|jr|intern|graduate|trainee|entry"))) {
+            return Job.JobLevel.ENTRY_LEVEL;
+        }
+        return words.isEmpty() ? null : Job.JobLevel.MID_LEVEL;
+    }
+}
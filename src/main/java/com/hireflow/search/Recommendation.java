@@ -0,0 +1,9 @@
+package com.hireflow.search;
+
+import java.util.List;
+
+/**
+ * A recommended job with its score in [0, 1] and the profile skills it asks for.
+ */
+public record Recommendation(long jobId, double score, List<String> matchedSkills) {
+}
@@ -0,0 +1,21 @@
+package com.hireflow.search;
+
+import com.hireflow.entity.Job;
+import com.hireflow.entity.User;
+
+import java.util.List;
+
+/**
+ * What job recommendations are ranked against: the seeker's skills, the level their
+ * title suggests and where they are. {@code level} and the coordinates may be null.
+ */
+public record RecommendationProfile(List<String> skills, Job.JobLevel level, Double latitude, Double longitude) {
+
+    public static RecommendationProfile from(User user) {
+        return new RecommendationProfile(
+                user.getSkills() != null ? List.copyOf(user.getSkills()) : List.of(),
+                MatchScoring.levelOf(user.getTitle()),
+                user.getGeo() != null ? user.getGeo().getLatitude() : null,
+                user.getGeo() != null ? user.getGeo().getLongitude() : null);
+    }
+}
@@ -0,0 +1,22 @@
+package com.hireflow.search;
+
+import com.hireflow.entity.SavedSearch;
+
+/**
+ * Published by {@code SavedSearchService} whenever a saved search is written.
+ * {@code savedSearch} is null when it was deleted.
+ */
+public record SavedSearchChangedEvent(Long savedSearchId, SavedSearch savedSearch) {
+
+    public static SavedSearchChangedEvent saved(SavedSearch savedSearch) {
+        return new SavedSearchChangedEvent(savedSearch.getId(), savedSearch);
+    }
+
+    public static SavedSearchChangedEvent deleted(Long savedSearchId) {
+        return new SavedSearchChangedEvent(savedSearchId, null);
+    }
+
+    public boolean isDeleted() {
+        return savedSearch == null;
+    }
+}
@@ -0,0 +1,309 @@
+package com.hireflow.search;
+
+import com.hireflow.entity.SavedSearch;
+import com.hireflow.repository.SavedSearchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Reverse index of saved searches, used to find the searches a new or changed job matches.
+ * <p>
+ * Every search is filed under one anchor: a set of keys (keyword, skill, location word,
+ * category, level, type or currency) at least one of which any matching job must carry.
+ * Of all such anchors the one fewest ACTIVE jobs carry when the search is registered is
+ * chosen. Percolating a job then looks up the searches anchored on the job's own keys and
+ * checks only those in full. Searches with no anchor (a single location prefix, a radius
+ * or a salary range only) are checked against every job.
+ * <p>
+ * Keywords match whole words of the title, description, requirements or skills; unlike
+ * /api/jobs there is no typo tolerance.
+ * <p>
+ * Kept current from local {@link SavedSearchChangedEvent}s and a periodic reload of
+ * searches saved or deleted through other nodes.
+ */
+@Slf4j
+@Component
+public class SavedSearchIndex {
+
+    public record Match(long savedSearchId, long userId) {
+    }
+
+    private final SavedSearchRepository savedSearchRepository;
+    // searches are re-read from this far before the last read, for transactions that commit late
+    private final Duration refreshMargin;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Query> queries = new HashMap<>();
+    private final Map<String, Set<Long>> byAnchor = new HashMap<>();
+    private final Set<Long> unanchored = new HashSet<>();
+    // ACTIVE jobs per key, to pick the most selective anchor
+    private final Map<String, Integer> jobFrequency = new HashMap<>();
+    private volatile LocalDateTime readAt;
+
+    private record Query(long id, long userId, JobSearchCriteria criteria, List<String> keywords,
+                         Set<String> anchor) {
+    }
+
+    public SavedSearchIndex(SavedSearchRepository savedSearchRepository,
+                            @Value("${app.search.replay-margin-seconds:300}") long refreshMarginSeconds) {
+        this.savedSearchRepository = savedSearchRepository;
+        this.refreshMargin = Duration.ofSeconds(refreshMarginSeconds);
+    }
+
+    @EventListener
+    public void onIndexLoaded(JobIndexLoadedEvent event) {
+        readAt = LocalDateTime.now();
+        List<SavedSearch> savedSearches = savedSearchRepository.findAllWithSkills();
+        lock.writeLock().lock();
+        try {
+            jobFrequency.clear();
+            for (JobDocument document : event.documents()) {
+                count(document, 1);
+            }
+            queries.clear();
+            byAnchor.clear();
+            unanchored.clear();
+            savedSearches.forEach(this::register);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Saved search index ready: {} searches, {} unanchored", queries.size(), unanchored.size());
+    }
+
+    @EventListener
+    public void onIndexUpdated(JobIndexUpdatedEvent event) {
+        lock.writeLock().lock();
+        try {
+            count(event.before(), -1);
+            count(event.after(), 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSavedSearchChanged(SavedSearchChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (event.isDeleted()) {
+                unregister(event.savedSearchId());
+            } else {
+                register(event.savedSearch());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Registers searches saved through other nodes since the last read and drops those
+     * deleted there. Saved searches are never edited, so a search already registered is
+     * left as it is. Only searches registered before the id scan can be found missing
+     * from it; later ones may have been saved after the scan.
+     */
+    @Scheduled(initialDelayString = "${app.alerts.saved-search-refresh-interval-ms:60000}",
+            fixedDelayString = "${app.alerts.saved-search-refresh-interval-ms:60000}")
+    public void refresh() {
+        LocalDateTime since = readAt;
+        if (since == null) return;
+
+        Set<Long> registered;
+        lock.readLock().lock();
+        try {
+            registered = new HashSet<>(queries.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+        readAt = LocalDateTime.now();
+        List<SavedSearch> saved = savedSearchRepository.findCreatedSinceWithSkills(since.minus(refreshMargin));
+        Set<Long> existing = new HashSet<>(savedSearchRepository.findAllIds());
+
+        int added = 0;
+        int removed = 0;
+        lock.writeLock().lock();
+        try {
+            for (SavedSearch savedSearch : saved) {
+                if (queries.containsKey(savedSearch.getId()) || !existing.contains(savedSearch.getId())) continue;
+                register(savedSearch);
+                added++;
+            }
+            for (Long id : registered) {
+                if (existing.contains(id) || !queries.containsKey(id)) continue;
+                unregister(id);
+                removed++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (added > 0 || removed > 0) {
+            log.debug("Saved search index refreshed: {} searches added, {} removed", added, removed);
+        }
+    }
+
+    /** Saved searches that {@code after} matches and {@code before}, when given, did not. */
+    public List<Match> percolate(JobDocument before, JobDocument after) {
+        if (after == null || !after.isActive()) return List.of();
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = new LinkedHashSet<>(unanchored);
+            for (String key : keysOf(after)) {
+                Set<Long> anchored = byAnchor.get(key);
+                if (anchored != null) candidates.addAll(anchored);
+            }
+
+            Set<String> afterTerms = textTerms(after);
+            Set<String> beforeTerms = before != null && before.isActive() ? textTerms(before) : null;
+            List<Match> matches = new ArrayList<>();
+            for (Long id : candidates) {
+                Query query = queries.get(id);
+                if (!matches(query, after, afterTerms)) continue;
+                if (beforeTerms != null && matches(query, before, beforeTerms)) continue;
+                matches.add(new Match(query.id(), query.userId()));
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return queries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===== MAINTENANCE =====
+
+    private void register(SavedSearch savedSearch) {
+        unregister(savedSearch.getId());
+
+        List<String> skills = savedSearch.getSkills() == null ? List.of() : savedSearch.getSkills().stream()
+                .map(Tokenizer::normalize)
+                .filter(skill -> !skill.isEmpty())
+                .distinct()
+                .toList();
+        String location = savedSearch.getLocation() != null && !savedSearch.getLocation().isBlank()
+                ? Tokenizer.normalize(savedSearch.getLocation()) : null;
+        JobSearchCriteria.Radius near = savedSearch.getNearLatitude() != null
+                ? new JobSearchCriteria.Radius(savedSearch.getNearLatitude(), savedSearch.getNearLongitude(),
+                        savedSearch.getRadiusKm())
+                : null;
+        JobSearchCriteria criteria = new JobSearchCriteria(
+                savedSearch.getSearch(), savedSearch.getType(), savedSearch.getLevel(), savedSearch.getCategory(),
+                location, near, skills.isEmpty() ? null : skills, savedSearch.isMatchAllSkills(),
+                savedSearch.getMinSalary(), savedSearch.getMaxSalary(), savedSearch.getCurrency(),
+                null, 0, 1, null, false);
+        List<String> keywords = Tokenizer.tokenize(savedSearch.getSearch()).stream().distinct().toList();
+
+        Query query = new Query(savedSearch.getId(), savedSearch.getUser().getId(), criteria, keywords,
+                anchorOf(criteria, keywords));
+        queries.put(query.id(), query);
+        if (query.anchor().isEmpty()) {
+            unanchored.add(query.id());
+        } else {
+            query.anchor().forEach(key -> byAnchor.computeIfAbsent(key, k -> new HashSet<>()).add(query.id()));
+        }
+    }
+
+    private void unregister(Long id) {
+        Query query = queries.remove(id);
+        if (query == null) return;
+        unanchored.remove(id);
+        for (String key : query.anchor()) {
+            Set<Long> anchored = byAnchor.get(key);
+            if (anchored == null) continue;
+            anchored.remove(id);
+            if (anchored.isEmpty()) byAnchor.remove(key);
+        }
+    }
+
+    /** The cheapest set of keys a matching job must carry at least one of; empty when there is none. */
+    private Set<String> anchorOf(JobSearchCriteria criteria, List<String> keywords) {
+        List<Set<String>> options = new ArrayList<>();
+        keywords.forEach(keyword -> options.add(Set.of("term:" + keyword)));
+        if (criteria.skills() != null) {
+            if (criteria.matchAllSkills()) {
+                criteria.skills().forEach(skill -> options.add(Set.of("skill:" + skill)));
+            } else {
+                Set<String> anyOf = new HashSet<>();
+                criteria.skills().forEach(skill -> anyOf.add("skill:" + skill));
+                options.add(anyOf);
+            }
+        }
+        if (criteria.location() != null) {
+            // the last word is matched as a prefix, so only the ones before it are exact
+            List<String> words = Tokenizer.tokenize(criteria.location());
+            words.subList(0, Math.max(0, words.size() - 1)).forEach(word -> options.add(Set.of("location:" + word)));
+        }
+        if (criteria.category() != null) options.add(Set.of("category:" + criteria.category()));
+        if (criteria.level() != null) options.add(Set.of("level:" + criteria.level()));
+        if (criteria.type() != null) options.add(Set.of("type:" + criteria.type()));
+        if (criteria.currency() != null) options.add(Set.of("currency:" + criteria.currency()));
+
+        Set<String> best = Set.of();
+        long bestCost = Long.MAX_VALUE;
+        for (Set<String> option : options) {
+            long cost = option.stream().mapToLong(key -> jobFrequency.getOrDefault(key, 0)).sum();
+            if (cost < bestCost) {
+                best = option;
+                bestCost = cost;
+            }
+        }
+        return best;
+    }
+
+    private void count(JobDocument document, int delta) {
+        if (document == null || !document.isActive()) return;
+        for (String key : keysOf(document)) {
+            if (jobFrequency.merge(key, delta, Integer::sum) <= 0) jobFrequency.remove(key);
+        }
+    }
+
+    // ===== MATCHING =====
+
+    private static boolean matches(Query query, JobDocument document, Set<String> terms) {
+        if (!terms.containsAll(query.keywords())) return false;
+        for (CriteriaDimension dimension : CriteriaDimension.values()) {
+            if (!dimension.matches(query.criteria(), document)) return false;
+        }
+        return true;
+    }
+
+    private static Set<String> keysOf(JobDocument document) {
+        Set<String> keys = new HashSet<>();
+        textTerms(document).forEach(term -> keys.add("term:" + term));
+        document.skills().forEach(skill -> keys.add("skill:" + Tokenizer.normalize(skill)));
+        Tokenizer.tokenize(document.location()).forEach(word -> keys.add("location:" + word));
+        keys.add("category:" + document.category());
+        keys.add("level:" + document.level());
+        keys.add("type:" + document.type());
+        if (document.salaryCurrency() != null) keys.add("currency:" + document.salaryCurrency());
+        return keys;
+    }
+
+    private static Set<String> textTerms(JobDocument document) {
+        Set<String> terms = new HashSet<>(Tokenizer.tokenize(document.title()));
+        terms.addAll(Tokenizer.tokenize(document.description()));
+        terms.addAll(Tokenizer.tokenize(document.requirements()));
+        document.skills().forEach(skill -> terms.addAll(Tokenizer.tokenize(skill)));
+        return terms;
+    }
+}
@@ -0,0 +1,111 @@
+package com.hireflow.search;
+
+import com.hireflow.util.HeavyHitters;
+import com.hireflow.util.LatencyHistogram;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Constant-memory statistics about /api/jobs searches: the most searched terms, the
+ * most frequent queries that found nothing, and latency per combination of filters.
+ * Recording is lock-free in the common case, so it runs on every request.
+ */
+@Component
+public class SearchAnalytics {
+
+    private static final int TOP_K = 50;
+    private static final int SKETCH_WIDTH = 4096;
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final int MAX_COMBINATIONS = 64;
+    private static final String OTHER = "other";
+
+    private final HeavyHitters terms = new HeavyHitters(TOP_K, SKETCH_WIDTH);
+    private final HeavyHitters zeroResultQueries = new HeavyHitters(TOP_K, SKETCH_WIDTH);
+    private final Map<String, LatencyHistogram> latencyByFilters = new ConcurrentHashMap<>();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder zeroResults = new LongAdder();
+
+    /** @param empty whether the search matched no jobs at all */
+    public void record(JobSearchCriteria criteria, boolean empty, long nanos) {
+        latency.record(nanos);
+        histogramFor(filtersOf(criteria)).record(nanos);
+        if (criteria.hasText()) {
+            Tokenizer.tokenize(criteria.search()).stream().distinct().map(SearchAnalytics::truncate)
+                    .forEach(terms::offer);
+        }
+        if (empty) {
+            zeroResults.increment();
+            zeroResultQueries.offer(truncate(describe(criteria)));
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> byFilters = new LinkedHashMap<>();
+        latencyByFilters.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LatencyHistogram> e) -> e.getValue().count())
+                        .reversed())
+                .forEach(e -> byFilters.put(e.getKey(), e.getValue().snapshot()));
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("searches", latency.count());
+        stats.put("zeroResultSearches", zeroResults.sum());
+        stats.put("latency", latency.snapshot());
+        stats.put("topTerms", terms.top(TOP_K));
+        stats.put("topZeroResultQueries", zeroResultQueries.top(TOP_K));
+        stats.put("latencyByFilters", byFilters);
+        return stats;
+    }
+
+    // ===== KEYS =====
+
+    private LatencyHistogram histogramFor(String filters) {
+        LatencyHistogram histogram = latencyByFilters.get(filters);
+        if (histogram != null) return histogram;
+        // combinations beyond the cap share one histogram, so memory stays bounded
+        String key = latencyByFilters.size() < MAX_COMBINATIONS ? filters : OTHER;
+        return latencyByFilters.computeIfAbsent(key, k -> new LatencyHistogram());
+    }
+
+    /** Names of the filters in use, e.g. "search+skills+near", or "none". */
+    private static String filtersOf(JobSearchCriteria c) {
+        List<String> names = new ArrayList<>();
+        if (c.hasText()) names.add("search");
+        if (c.type() != null) names.add("type");
+        if (c.level() != null) names.add("level");
+        if (c.category() != null) names.add("category");
+        if (c.location() != null) names.add("location");
+        if (c.near() != null) names.add("near");
+        if (c.skills() != null) names.add("skills");
+        if (c.minSalary() != null || c.maxSalary() != null) names.add("salary");
+        if (c.currency() != null) names.add("currency");
+        if (c.facets()) names.add("facets");
+        return names.isEmpty() ? "none" : String.join("+", names);
+    }
+
+    /** The query as typed, e.g. "rust developer category:DATA location:oslo". */
+    private static String describe(JobSearchCriteria c) {
+        List<String> parts = new ArrayList<>();
+        if (c.hasText()) parts.add(c.search());
+        if (c.type() != null) parts.add("type:" + c.type());
+        if (c.level() != null) parts.add("level:" + c.level());
+        if (c.category() != null) parts.add("category:" + c.category());
+        if (c.location() != null) parts.add("location:" + c.location());
+        if (c.near() != null) parts.add("near:" + Math.round(c.near().km()) + "km");
+        if (c.skills() != null) parts.add("skills:" + String.join(",", c.skills()));
+        if (c.minSalary() != null) parts.add("minSalary:" + c.minSalary());
+        if (c.maxSalary() != null) parts.add("maxSalary:" + c.maxSalary());
+        if (c.currency() != null) parts.add("currency:" + c.currency());
+        return parts.isEmpty() ? "(all jobs)" : String.join(" ", parts);
+    }
+
+    private static String truncate(String key) {
+        return key.length() <= MAX_KEY_LENGTH ? key : key.substring(0, MAX_KEY_LENGTH);
+    }
+}
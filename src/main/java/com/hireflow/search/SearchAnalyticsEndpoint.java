@@ -0,0 +1,24 @@
+package com.hireflow.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * GET /actuator/searchanalytics — top search terms, top zero-result queries and latency per filter combination.
+ */
+@Component
+@Endpoint(id = "searchanalytics")
+@RequiredArgsConstructor
+public class SearchAnalyticsEndpoint {
+
+    private final SearchAnalytics analytics;
+
+    @ReadOperation
+    public Map<String, Object> stats() {
+        return analytics.stats();
+    }
+}
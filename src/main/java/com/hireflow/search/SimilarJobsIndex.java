@@ -0,0 +1,199 @@
+package com.hireflow.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * "Similar jobs" over ACTIVE jobs, by MinHash signatures in an LSH banding index.
+ * <p>
+ * A job's features are its title words, skills and word pairs of its description.
+ * The signature is split into bands; two jobs sharing any band land in the same
+ * bucket, which makes jobs with a Jaccard similarity around 0.5 or more very likely
+ * candidates of each other. A lookup probes one bucket per band and reranks only
+ * those candidates by the share of equal signature slots.
+ */
+@Slf4j
+@Component
+public class SimilarJobsIndex {
+
+    private static final int BANDS = 16;
+    private static final int ROWS = 4;
+    private static final int HASHES = BANDS * ROWS;
+    private static final long PRIME = 2_147_483_647L; // 2^31 - 1
+    private static final int MAX_CANDIDATES = 500;
+    private static final double MIN_SIMILARITY = 0.1;
+
+    private static final long[] A = new long[HASHES];
+    private static final long[] B = new long[HASHES];
+
+    static {
+        // fixed seed: signatures must not change between restarts
+        Random random = new Random(0x48464a53L);
+        for (int i = 0; i < HASHES; i++) {
+            A[i] = 1 + random.nextInt(Integer.MAX_VALUE - 1);
+            B[i] = random.nextInt(Integer.MAX_VALUE);
+        }
+    }
+
+    public record SimilarJob(long jobId, double similarity) {
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, int[]> signatures = new HashMap<>();
+    private final Map<Long, Set<Long>> buckets = new HashMap<>();
+
+    @EventListener
+    public void onIndexLoaded(JobIndexLoadedEvent event) {
+        lock.writeLock().lock();
+        try {
+            for (JobDocument document : event.documents()) {
+                upsert(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Similar jobs index ready: {} jobs in {} buckets", signatures.size(), buckets.size());
+    }
+
+    @EventListener
+    public void onIndexUpdated(JobIndexUpdatedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (event.after() != null) {
+                upsert(event.after());
+            } else if (event.before() != null) {
+                remove(event.before().id());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Most similar ACTIVE jobs to the given one, excluding itself. */
+    public List<SimilarJob> similar(JobDocument document, int limit) {
+        lock.readLock().lock();
+        try {
+            int[] signature = signatures.get(document.id());
+            if (signature == null) signature = signature(document);
+            if (signature == null) return List.of();
+
+            Set<Long> candidates = new LinkedHashSet<>();
+            for (int band = 0; band < BANDS && candidates.size() < MAX_CANDIDATES; band++) {
+                Set<Long> bucket = buckets.get(bucketKey(signature, band));
+                if (bucket != null) candidates.addAll(bucket);
+            }
+            candidates.remove(document.id());
+
+            List<SimilarJob> ranked = new ArrayList<>(candidates.size());
+            for (Long candidate : candidates) {
+                double similarity = estimate(signature, signatures.get(candidate));
+                if (similarity >= MIN_SIMILARITY) ranked.add(new SimilarJob(candidate, similarity));
+            }
+            ranked.sort(Comparator.comparingDouble(SimilarJob::similarity).reversed()
+                    .thenComparing(Comparator.comparingLong(SimilarJob::jobId).reversed()));
+            return ranked.subList(0, Math.min(limit, ranked.size()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===== MAINTENANCE =====
+
+    private void upsert(JobDocument document) {
+        remove(document.id());
+        if (!document.isActive()) return;
+        int[] signature = signature(document);
+        if (signature == null) return;
+
+        signatures.put(document.id(), signature);
+        for (int band = 0; band < BANDS; band++) {
+            buckets.computeIfAbsent(bucketKey(signature, band), k -> new HashSet<>()).add(document.id());
+        }
+    }
+
+    private void remove(Long jobId) {
+        int[] signature = signatures.remove(jobId);
+        if (signature == null) return;
+        for (int band = 0; band < BANDS; band++) {
+            long key = bucketKey(signature, band);
+            Set<Long> bucket = buckets.get(key);
+            if (bucket == null) continue;
+            bucket.remove(jobId);
+            if (bucket.isEmpty()) buckets.remove(key);
+        }
+    }
+
+    // ===== MINHASH =====
+
+    /** Null when the job has no features at all. */
+    private static int[] signature(JobDocument document) {
+        Set<String> features = features(document);
+        if (features.isEmpty()) return null;
+
+        int[] signature = new int[HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (String feature : features) {
+            long x = mix(feature.hashCode()) & 0x7fffffffL;
+            for (int i = 0; i < HASHES; i++) {
+                int h = (int) ((A[i] * x + B[i]) % PRIME);
+                if (h < signature[i]) signature[i] = h;
+            }
+        }
+        return signature;
+    }
+
+    private static Set<String> features(JobDocument document) {
+        Set<String> features = new HashSet<>();
+        for (String word : Tokenizer.tokenize(document.title())) {
+            features.add("t:" + word);
+        }
+        for (String skill : document.skills()) {
+            String key = Tokenizer.normalize(skill);
+            if (!key.isEmpty()) features.add("s:" + key);
+        }
+        List<String> words = Tokenizer.tokenize(document.description());
+        for (int i = 0; i + 1 < words.size(); i++) {
+            features.add("d:" + words.get(i) + " " + words.get(i + 1));
+        }
+        return features;
+    }
+
+    private static long bucketKey(int[] signature, int band) {
+        int hash = band;
+        for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+            hash = 31 * hash + signature[row];
+        }
+        return ((long) band << 32) | (hash & 0xffffffffL);
+    }
+
+    private static double estimate(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < HASHES; i++) {
+            if (a[i] == b[i]) equal++;
+        }
+        return (double) equal / HASHES;
+    }
+
+    // spreads String.hashCode, whose low bits are weak for short strings
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
@@ -0,0 +1,166 @@
+package com.hireflow.search;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inverted index with BM25 scoring and edit-distance typo tolerance.
+ * <p>
+ * Document ids must be added in increasing order. Removed documents keep their
+ * postings until the owner rebuilds the index, so callers always intersect with
+ * their own set of live documents. Not thread-safe; the owning index guards access.
+ */
+final class TextIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final float FUZZY_WEIGHT = 0.6f;
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Integer, Set<String>> termsByLength = new HashMap<>();
+    private int[] docLengths = new int[256];
+    private int liveDocs;
+    private long totalLength;
+
+    void add(int docId, Map<String, Integer> termFreqs) {
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : termFreqs.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), this::newPostings).add(docId, entry.getValue());
+            length += entry.getValue();
+        }
+        if (docId >= docLengths.length) {
+            docLengths = Arrays.copyOf(docLengths, Math.max(docId + 1, docLengths.length * 2));
+        }
+        docLengths[docId] = length;
+        liveDocs++;
+        totalLength += length;
+    }
+
+    void remove(int docId) {
+        liveDocs--;
+        totalLength -= docLengths[docId];
+        docLengths[docId] = 0;
+    }
+
+    int documentFrequency(String term) {
+        Postings p = postings.get(term);
+        return p == null ? 0 : p.size;
+    }
+
+    /**
+     * Maps each query token to the index terms it should match: the token itself
+     * when indexed, otherwise every term within the allowed edit distance.
+     */
+    List<QueryTerm> resolve(List<String> tokens) {
+        List<QueryTerm> terms = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            if (postings.containsKey(token)) {
+                terms.add(new QueryTerm(token, List.of(new Variant(token, 1f))));
+                continue;
+            }
+            int maxEdits = maxEdits(token);
+            List<Variant> variants = new ArrayList<>();
+            for (int len = token.length() - maxEdits; len <= token.length() + maxEdits; len++) {
+                for (String candidate : termsByLength.getOrDefault(len, Set.of())) {
+                    if (withinDistance(token, candidate, maxEdits)) {
+                        variants.add(new Variant(candidate, FUZZY_WEIGHT));
+                    }
+                }
+            }
+            terms.add(new QueryTerm(token, variants));
+        }
+        return terms;
+    }
+
+    RoaringBitmap matching(QueryTerm term) {
+        RoaringBitmap docs = new RoaringBitmap();
+        for (Variant variant : term.variants()) {
+            docs.or(postings.get(variant.term()).bitmap);
+        }
+        return docs;
+    }
+
+    float score(int docId, List<QueryTerm> terms) {
+        float avgLength = liveDocs == 0 ? 1f : (float) totalLength / liveDocs;
+        float norm = K1 * (1 - B + B * docLengths[docId] / avgLength);
+        float score = 0f;
+        for (QueryTerm term : terms) {
+            for (Variant variant : term.variants()) {
+                Postings p = postings.get(variant.term());
+                int freq = p.freq(docId);
+                if (freq == 0) continue;
+                double idf = Math.log(1 + (liveDocs - p.size + 0.5) / (p.size + 0.5));
+                score += (float) (variant.weight() * Math.max(idf, 0.01) * freq * (K1 + 1) / (freq + norm));
+            }
+        }
+        return score;
+    }
+
+    private Postings newPostings(String term) {
+        termsByLength.computeIfAbsent(term.length(), k -> new HashSet<>()).add(term);
+        return new Postings();
+    }
+
+    private static int maxEdits(String token) {
+        if (token.length() < 4) return 0;
+        return token.length() < 8 ? 1 : 2;
+    }
+
+    /** Banded Levenshtein distance check that bails out as soon as the bound is exceeded. */
+    static boolean withinDistance(String a, String b, int maxEdits) {
+        if (Math.abs(a.length() - b.length()) > maxEdits) return false;
+        int[] prev = new int[b.length() + 1];
+        int[] curr = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) prev[j] = j;
+        for (int i = 1; i <= a.length(); i++) {
+            curr[0] = i;
+            int rowMin = curr[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                curr[j] = Math.min(Math.min(curr[j - 1] + 1, prev[j] + 1), prev[j - 1] + cost);
+                rowMin = Math.min(rowMin, curr[j]);
+            }
+            if (rowMin > maxEdits) return false;
+            int[] tmp = prev;
+            prev = curr;
+            curr = tmp;
+        }
+        return prev[b.length()] <= maxEdits;
+    }
+
+    record Variant(String term, float weight) {
+    }
+
+    record QueryTerm(String token, List<Variant> variants) {
+    }
+
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+        private final RoaringBitmap bitmap = new RoaringBitmap();
+
+        void add(int docId, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = docId;
+            freqs[size] = freq;
+            size++;
+            bitmap.add(docId);
+        }
+
+        int freq(int docId) {
+            int i = Arrays.binarySearch(docs, 0, size, docId);
+            return i >= 0 ? freqs[i] : 0;
+        }
+    }
+}
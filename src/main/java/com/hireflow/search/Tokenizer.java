@@ -0,0 +1,53 @@
+package com.hireflow.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Splits free text into lower-case index terms.
+ * Keeps '+' and '#' so that terms like "c++" and "c#" survive.
+ */
+public final class Tokenizer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from",
+            "in", "is", "of", "on", "or", "our", "the", "to", "we",
+            "with", "you", "your", "will"
+    );
+
+    private Tokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) return tokens;
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (Character.isLetterOrDigit(c) || c == '+' || c == '#') {
+                current.append(c);
+            } else {
+                flush(current, tokens);
+            }
+        }
+        flush(current, tokens);
+        return tokens;
+    }
+
+    /** Normalizes a whole value (skill, location) into a single lookup key. */
+    public static String normalize(String value) {
+        if (value == null) return "";
+        return String.join(" ", tokenize(value));
+    }
+
+    private static void flush(StringBuilder current, List<String> tokens) {
+        if (current.isEmpty()) return;
+        String token = current.toString();
+        current.setLength(0);
+        if (!STOP_WORDS.contains(token)) tokens.add(token);
+    }
+}
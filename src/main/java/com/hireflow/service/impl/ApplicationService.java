@@ -1,5 +1,7 @@
 package com.hireflow.service.impl;
 
+import com.hireflow.cache.ApplicationSubmittedEvent;
+import com.hireflow.cache.AppliedJobsCache;
 import com.hireflow.dto.request.ApplicationRequest;
 import com.hireflow.dto.response.ApiResponse;
 import com.hireflow.entity.Application;
@@ -9,21 +11,39 @@ import com.hireflow.exception.AccessDeniedException;
 import com.hireflow.exception.DuplicateResourceException;
 import com.hireflow.exception.ResourceNotFoundException;
 import com.hireflow.repository.ApplicationRepository;
+import com.hireflow.repository.JobRepository;
+import com.hireflow.search.MatchScoring;
+import com.hireflow.search.Tokenizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ApplicationService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_APPLIED_CHECKS = 100;
+
     private final ApplicationRepository applicationRepository;
     private final JobService jobService;
     private final UserService userService;
+    private final JobRepository jobRepository;
+    private final AppliedJobsCache appliedJobsCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ApiResponse.ApplicationResponse apply(Long jobId, ApplicationRequest request) {
@@ -49,6 +69,8 @@ public class ApplicationService {
                 .build();
 
         application = applicationRepository.save(application);
+        jobRepository.adjustApplicationCount(jobId, 1);
+        eventPublisher.publishEvent(new ApplicationSubmittedEvent(jobId, job.getCompany().getId(), applicant.getEmail()));
         log.info("Application submitted: userId={} for jobId={}", applicant.getId(), jobId);
         return mapToResponse(application);
     }
@@ -62,9 +84,17 @@ public class ApplicationService {
 
     @Transactional(readOnly = true)
     public boolean hasApplied(Long jobId) {
-        User applicant = userService.getCurrentUser();
-        Job job = jobService.findJobOrThrow(jobId);
-        return applicationRepository.existsByJobAndApplicant(job, applicant);
+        if (!jobRepository.existsById(jobId)) throw new ResourceNotFoundException("Job", jobId);
+        return appliedJobsCache.applied(userService.getCurrentEmail(), jobId);
+    }
+
+    /** Applied flags for a page of job cards; unknown job ids are simply not applied. */
+    @Transactional(readOnly = true)
+    public Map<Long, Boolean> hasApplied(List<Long> jobIds) {
+        if (jobIds.size() > MAX_APPLIED_CHECKS) {
+            throw new IllegalArgumentException("At most " + MAX_APPLIED_CHECKS + " job ids can be checked at once");
+        }
+        return appliedJobsCache.applied(userService.getCurrentEmail(), jobIds);
     }
 
     @Transactional(readOnly = true)
@@ -80,6 +110,101 @@ public class ApplicationService {
                 .stream().map(this::mapToResponse).toList();
     }
 
+    /**
+     * Applications ranked by how well the applicant fits the job, best first.
+     * Scores come from one projection query and are computed in one pass over
+     * primitive arrays; only the requested page is loaded as entities.
+     */
+    @Transactional(readOnly = true)
+    public ApiResponse.PageResponse<ApiResponse.ApplicationResponse> rankApplicationsForJob(
+            Long jobId, int page, int size) {
+        User company = userService.getCurrentUser();
+        Job job = jobService.findJobOrThrow(jobId);
+
+        if (!job.getCompany().getId().equals(company.getId())) {
+            throw new AccessDeniedException("You can only view applications for your own jobs");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+
+        List<ApplicationRepository.ApplicantRow> rows = applicationRepository.findApplicantRowsByJob(job);
+        int n = rows.size();
+        long[] ids = new long[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = rows.get(i).getApplicationId();
+        }
+
+        // matched[i] counts the job's distinct skills applicant i has; any number of skills fits the BitSet
+        Map<String, Integer> skillIndexes = new HashMap<>();
+        if (job.getSkills() != null) {
+            for (String skill : job.getSkills()) {
+                skillIndexes.putIfAbsent(Tokenizer.normalize(skill), skillIndexes.size());
+            }
+        }
+        int[] matched = new int[n];
+        BitSet has = new BitSet(skillIndexes.size());
+        for (int i = 0; i < n; i++) {
+            List<String> skills = rows.get(i).getSkills();
+            if (skills == null) continue;
+            has.clear();
+            for (String skill : skills) {
+                Integer index = skillIndexes.get(Tokenizer.normalize(skill));
+                if (index != null) has.set(index);
+            }
+            matched[i] = has.cardinality();
+        }
+
+        boolean remote = MatchScoring.isRemote(job.getType(), job.getLocation());
+        Double jobLat = job.getGeo() != null ? job.getGeo().getLatitude() : null;
+        Double jobLon = job.getGeo() != null ? job.getGeo().getLongitude() : null;
+        double[] scores = new double[n];
+        for (int i = 0; i < n; i++) {
+            ApplicationRepository.ApplicantRow row = rows.get(i);
+            double skillFit = skillIndexes.isEmpty() ? 0.5 : (double) matched[i] / skillIndexes.size();
+            scores[i] = MatchScoring.combine(skillFit,
+                    MatchScoring.levelFit(MatchScoring.levelOf(row.getTitle()), job.getLevel()),
+                    MatchScoring.locationFit(row.getLatitude(), row.getLongitude(), jobLat, jobLon, remote));
+        }
+
+        // best first, earlier application on ties; the heap only ever holds the pages up to this one
+        Comparator<Integer> better = Comparator.<Integer>comparingDouble(i -> scores[i])
+                .thenComparing(i -> -ids[i]);
+        int limit = (int) Math.min(n, (long) (pageNumber + 1) * pageSize);
+        PriorityQueue<Integer> heap = new PriorityQueue<>(Math.max(1, limit), better);
+        for (int i = 0; i < n && limit > 0; i++) {
+            if (heap.size() < limit) {
+                heap.add(i);
+            } else if (better.compare(i, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(i);
+            }
+        }
+        List<Integer> ranked = new ArrayList<>(heap);
+        ranked.sort(better.reversed());
+        List<Integer> pageIndexes = ranked.subList(Math.min(ranked.size(), pageNumber * pageSize), ranked.size());
+
+        Map<Long, Application> byId = applicationRepository.findByIdIn(
+                        pageIndexes.stream().map(i -> ids[i]).toList())
+                .stream().collect(Collectors.toMap(Application::getId, Function.identity()));
+        List<ApiResponse.ApplicationResponse> content = pageIndexes.stream()
+                .filter(i -> byId.containsKey(ids[i]))
+                .map(i -> {
+                    ApiResponse.ApplicationResponse response = mapToResponse(byId.get(ids[i]));
+                    response.setMatchScore(Math.round(scores[i] * 1000) / 1000.0);
+                    return response;
+                })
+                .toList();
+
+        return ApiResponse.PageResponse.<ApiResponse.ApplicationResponse>builder()
+                .content(content)
+                .page(pageNumber)
+                .size(pageSize)
+                .totalElements((long) n)
+                .totalPages((int) Math.ceil((double) n / pageSize))
+                .last((long) (pageNumber + 1) * pageSize >= n)
+                .build();
+    }
+
     @Transactional
     public ApiResponse.ApplicationResponse updateStatus(Long applicationId,
                                                          Application.ApplicationStatus status,
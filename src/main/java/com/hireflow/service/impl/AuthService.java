@@ -5,9 +5,11 @@ import com.hireflow.dto.response.ApiResponse;
 import com.hireflow.entity.User;
 import com.hireflow.exception.DuplicateResourceException;
 import com.hireflow.repository.UserRepository;
+import com.hireflow.search.CandidateChangedEvent;
 import com.hireflow.security.JwtUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -25,9 +27,13 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtUtils jwtUtils;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ApiResponse.AuthResponse register(AuthRequest.RegisterRequest request) {
+        if (request.getRole() == User.Role.ADMIN) {
+            throw new IllegalArgumentException("Role must be JOBSEEKER or COMPANY");
+        }
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new DuplicateResourceException("Email is already registered: " + request.getEmail());
         }
@@ -46,6 +52,7 @@ public class AuthService {
         }
 
         user = userRepository.save(user);
+        if (user.getRole() == User.Role.JOBSEEKER) eventPublisher.publishEvent(CandidateChangedEvent.saved(user));
         log.info("New user registered: {} ({})", user.getEmail(), user.getRole());
 
         String token = jwtUtils.generateTokenFromEmail(user.getEmail());
@@ -0,0 +1,24 @@
+package com.hireflow.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * GET /actuator/alerts — job alerts written, skipped for deleted searches or jobs, and failed.
+ */
+@Component
+@Endpoint(id = "alerts")
+@RequiredArgsConstructor
+public class JobAlertEndpoint {
+
+    private final SavedSearchService savedSearchService;
+
+    @ReadOperation
+    public Map<String, Object> stats() {
+        return savedSearchService.alertStats();
+    }
+}
@@ -1,69 +1,217 @@
 package com.hireflow.service.impl;
 
+import com.hireflow.cache.AppliedJobsCache;
+import com.hireflow.cache.CompanyStatsCache;
 import com.hireflow.dto.request.JobRequest;
+import com.hireflow.dto.request.JobSearchRequest;
 import com.hireflow.dto.response.ApiResponse;
+import com.hireflow.entity.GeoLocation;
 import com.hireflow.entity.Job;
 import com.hireflow.entity.User;
 import com.hireflow.exception.AccessDeniedException;
+import com.hireflow.exception.DuplicateResourceException;
 import com.hireflow.exception.ResourceNotFoundException;
+import com.hireflow.geo.Gazetteer;
 import com.hireflow.repository.JobRepository;
+import com.hireflow.search.DuplicateJobIndex;
+import com.hireflow.search.JobChangedEvent;
+import com.hireflow.search.JobCursor;
+import com.hireflow.search.JobDocument;
+import com.hireflow.search.JobSearchCache;
+import com.hireflow.search.JobSearchCriteria;
+import com.hireflow.search.JobSearchIndex;
+import com.hireflow.search.JobSearchResult;
+import com.hireflow.search.JobSort;
+import com.hireflow.search.JobSuggestIndex;
+import com.hireflow.search.JobViewTracker;
+import com.hireflow.search.Recommendation;
+import com.hireflow.search.RecommendationProfile;
+import com.hireflow.search.SearchAnalytics;
+import com.hireflow.search.SimilarJobsIndex;
+import com.hireflow.skill.SkillDictionary;
+import com.hireflow.util.SalaryParser;
+import com.hireflow.util.SingleFlight;
+import com.hireflow.util.SingleFlightRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class JobService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SIMILAR_JOBS = 20;
+    static final double DEFAULT_RADIUS_KM = 50;
+    static final double MAX_RADIUS_KM = 20_000;
+
     private final JobRepository jobRepository;
     private final UserService userService;
+    private final JobSearchIndex jobSearchIndex;
+    private final JobSuggestIndex jobSuggestIndex;
+    private final JobSearchCache jobSearchCache;
+    private final SearchAnalytics searchAnalytics;
+    private final SimilarJobsIndex similarJobsIndex;
+    private final DuplicateJobIndex duplicateJobIndex;
+    private final JobViewTracker jobViewTracker;
+    private final CompanyStatsCache companyStatsCache;
+    private final AppliedJobsCache appliedJobsCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Gazetteer gazetteer;
+    private final SkillDictionary skillDictionary;
+    private final SingleFlightRegistry singleFlights;
+    private final PlatformTransactionManager transactionManager;
 
-    @Transactional(readOnly = true)
-    public ApiResponse.PageResponse<ApiResponse.JobResponse> getJobs(
-            String search, String type, String level,
-            String category, String location, int page, int size) {
+    // Not @Transactional: coalesced callers must not each hold a connection while they wait
+    public ApiResponse.PageResponse<ApiResponse.JobResponse> getJobs(JobSearchRequest request) {
+        long start = System.nanoTime();
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        int size = Math.min(request.getSize(), MAX_PAGE_SIZE);
+        Pageable pageable = PageRequest.of(request.getPage(), size, Sort.by("createdAt").descending());
 
-        Job.JobType jobType = parseEnum(Job.JobType.class, type);
-        Job.JobLevel jobLevel = parseEnum(Job.JobLevel.class, level);
-        Job.JobCategory jobCategory = parseEnum(Job.JobCategory.class, category);
+        Job.JobType jobType = parseEnum(Job.JobType.class, request.getType());
+        Job.JobLevel jobLevel = parseEnum(Job.JobLevel.class, request.getLevel());
+        Job.JobCategory jobCategory = parseEnum(Job.JobCategory.class, request.getCategory());
+        JobSort sort = parseEnum(JobSort.class, request.getSort());
+        JobCursor cursor = request.getCursor() != null ? JobCursor.decode(request.getCursor()) : null;
+        if (cursor != null && sort != null && sort != JobSort.RECENT) {
+            throw new IllegalArgumentException("Cursor paging is only supported with sort=recent");
+        }
+        if (request.getMinSalary() != null && request.getMaxSalary() != null
+                && request.getMinSalary() > request.getMaxSalary()) {
+            throw new IllegalArgumentException("minSalary must not be greater than maxSalary");
+        }
+        JobSearchCriteria.Radius near = null;
+        if (request.getNear() != null && !request.getNear().isBlank()) {
+            double km = request.getRadiusKm() != null ? request.getRadiusKm() : DEFAULT_RADIUS_KM;
+            if (km <= 0 || km > MAX_RADIUS_KM) {
+                throw new IllegalArgumentException("radiusKm must be between 0 and " + (int) MAX_RADIUS_KM);
+            }
+            GeoLocation centre = gazetteer.locate(request.getNear())
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown location: " + request.getNear()));
+            near = new JobSearchCriteria.Radius(centre.getLatitude(), centre.getLongitude(), km);
+        }
+        String currency = request.getCurrency() != null && !request.getCurrency().isBlank()
+                ? request.getCurrency().trim().toUpperCase() : null;
 
-        Page<Job> jobPage = jobRepository.findJobsWithFilters(
-                search, jobType, jobLevel, jobCategory, location, pageable);
+        JobSearchCriteria criteria = new JobSearchCriteria(
+                request.getSearch(), jobType, jobLevel, jobCategory, request.getLocation(), near,
+                skillDictionary.resolve(request.getSkills()), "all".equalsIgnoreCase(request.getSkillMatch()),
+                request.getMinSalary(), request.getMaxSalary(), currency, sort,
+                request.getPage(), size, cursor, request.isFacets());
 
-        List<ApiResponse.JobResponse> content = jobPage.getContent()
-                .stream().map(this::mapToResponse).toList();
+        JobSearchCache.Key key = JobSearchCache.Key.of(criteria, request.isCount());
+        SingleFlight<JobSearchCache.Key, JobSearchCache.Computed> listings = singleFlights.get("jobs.list");
 
-        return ApiResponse.PageResponse.<ApiResponse.JobResponse>builder()
-                .content(content)
-                .page(jobPage.getNumber())
-                .size(jobPage.getSize())
-                .totalElements(jobPage.getTotalElements())
-                .totalPages(jobPage.getTotalPages())
-                .last(jobPage.isLast())
-                .build();
+        ApiResponse.PageResponse<ApiResponse.JobResponse> page;
+        if (!jobSearchIndex.isReady()) {
+            // The DB query is only a fallback while the index is still loading at startup;
+            // it ignores skill, salary and radius filters and always sorts by recency
+            page = listings.execute(key, () -> jobSearchCache.compute(
+                    () -> readOnly(() -> searchDatabase(criteria, pageable, request.isCount())))).page();
+        } else {
+            // the generation is read by the computation itself, so callers joining it share the leader's
+            page = jobSearchCache.get(key, () -> listings.execute(key, () -> jobSearchCache.compute(() -> readOnly(() -> {
+                JobSearchResult result = jobSearchIndex.search(criteria);
+                boolean last = criteria.cursor() != null
+                        ? result.nextCursor() == null
+                        : (long) (criteria.page() + 1) * size >= result.totalElements();
+                return toPageResponse(result.jobIds(), criteria,
+                        request.isCount() ? result.totalElements() : null, last, result.nextCursor(), result.facets());
+            }))));
+        }
+
+        boolean empty = page.getTotalElements() != null
+                ? page.getTotalElements() == 0
+                : page.getContent().isEmpty() && criteria.page() == 0 && criteria.cursor() == null;
+        searchAnalytics.record(key.criteria(), empty, System.nanoTime() - start);
+        return page;
     }
 
     @Transactional(readOnly = true)
-    public ApiResponse.JobResponse getJobById(Long id) {
+    public List<ApiResponse.JobResponse> getSimilarJobs(Long id, int limit) {
         Job job = findJobOrThrow(id);
-        return mapToResponse(job);
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_SIMILAR_JOBS));
+        List<Long> ids = similarJobsIndex.similar(JobDocument.from(job), boundedLimit).stream()
+                .map(SimilarJobsIndex.SimilarJob::jobId)
+                .toList();
+        return mapToResponses(ids);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ApiResponse.RecommendationResponse> getRecommendedJobs(int limit) {
+        User user = userService.getCurrentUser();
+        if (!jobSearchIndex.isReady()) return List.of();
+
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<Recommendation> recommendations =
+                jobSearchIndex.recommend(RecommendationProfile.from(user),
+                        appliedJobsCache.appliedTo(user.getEmail()), boundedLimit);
+        Map<Long, ApiResponse.JobResponse> jobs = mapToResponses(
+                recommendations.stream().map(Recommendation::jobId).toList())
+                .stream().collect(Collectors.toMap(ApiResponse.JobResponse::getId, Function.identity()));
+        return recommendations.stream()
+                .filter(r -> jobs.containsKey(r.jobId()))
+                .map(r -> ApiResponse.RecommendationResponse.builder()
+                        .job(jobs.get(r.jobId()))
+                        .score(Math.round(r.score() * 1000) / 1000.0)
+                        .matchedSkills(r.matchedSkills())
+                        .build())
+                .toList();
+    }
+
+    public List<ApiResponse.SuggestionResponse> suggest(String prefix, int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, JobSuggestIndex.MAX_SUGGESTIONS));
+        return jobSuggestIndex.suggest(prefix, boundedLimit).stream()
+                .map(s -> ApiResponse.SuggestionResponse.builder()
+                        .text(s.text())
+                        .type(s.kind().name())
+                        .count(s.count())
+                        .build())
+                .toList();
+    }
+
+    /** {@code viewer} identifies the caller for unique-viewer counts. */
+    public ApiResponse.JobResponse getJobById(Long id, String viewer) {
+        ApiResponse.JobResponse job = singleFlights.<Long, ApiResponse.JobResponse>get("jobs.byId")
+                .execute(id, () -> readOnly(() -> mapToResponse(jobRepository.findWithCompanyById(id)
+                        .orElseThrow(() -> new ResourceNotFoundException("Job", id)))));
+        jobViewTracker.recordView(id, viewer);
+        return job;
     }
 
     @Transactional
     public ApiResponse.JobResponse createJob(JobRequest request) {
         User company = userService.getCurrentUser();
 
+        DuplicateJobIndex.Duplicate duplicate = duplicateJobIndex.findDuplicate(
+                company.getId(), request.getTitle(), request.getDescription(), request.getRequirements()).orElse(null);
+        if (duplicate != null && duplicateJobIndex.policy() == DuplicateJobIndex.Policy.REJECT) {
+            throw new DuplicateResourceException("This job looks like a duplicate of your active job " + duplicate.jobId());
+        }
+
         Job job = Job.builder()
                 .title(request.getTitle())
                 .description(request.getDescription())
@@ -73,16 +221,25 @@ public class JobService {
                 .type(request.getType())
                 .level(request.getLevel())
                 .category(request.getCategory())
-                .skills(request.getSkills())
+                .skills(skillDictionary.canonicalize(request.getSkills()))
                 .benefits(request.getBenefits())
                 .deadline(request.getDeadline() != null ? request.getDeadline()
                         : LocalDateTime.now().plusDays(30))
                 .status(request.getStatus() != null ? request.getStatus() : Job.JobStatus.ACTIVE)
                 .company(company)
+                .duplicateOf(duplicate != null ? duplicate.jobId() : null)
                 .build();
+        job.setGeo(gazetteer.locate(job.getLocation()).orElse(null));
+        SalaryParser.applyTo(job);
 
         job = jobRepository.save(job);
-        log.info("Job created: '{}' by {}", job.getTitle(), company.getEmail());
+        eventPublisher.publishEvent(JobChangedEvent.saved(job));
+        if (duplicate != null) {
+            log.info("Job created: '{}' by {}, flagged as duplicate of job {} (distance {})",
+                    job.getTitle(), company.getEmail(), duplicate.jobId(), duplicate.distance());
+        } else {
+            log.info("Job created: '{}' by {}", job.getTitle(), company.getEmail());
+        }
         return mapToResponse(job);
     }
 
@@ -98,17 +255,25 @@ public class JobService {
         if (request.getTitle() != null) job.setTitle(request.getTitle());
         if (request.getDescription() != null) job.setDescription(request.getDescription());
         if (request.getRequirements() != null) job.setRequirements(request.getRequirements());
-        if (request.getLocation() != null) job.setLocation(request.getLocation());
-        if (request.getSalary() != null) job.setSalary(request.getSalary());
+        if (request.getLocation() != null) {
+            job.setLocation(request.getLocation());
+            job.setGeo(gazetteer.locate(request.getLocation()).orElse(null));
+        }
+        if (request.getSalary() != null) {
+            job.setSalary(request.getSalary());
+            SalaryParser.applyTo(job);
+        }
         if (request.getType() != null) job.setType(request.getType());
         if (request.getLevel() != null) job.setLevel(request.getLevel());
         if (request.getCategory() != null) job.setCategory(request.getCategory());
-        if (request.getSkills() != null) job.setSkills(request.getSkills());
+        if (request.getSkills() != null) job.setSkills(skillDictionary.canonicalize(request.getSkills()));
         if (request.getBenefits() != null) job.setBenefits(request.getBenefits());
         if (request.getDeadline() != null) job.setDeadline(request.getDeadline());
         if (request.getStatus() != null) job.setStatus(request.getStatus());
 
-        job = jobRepository.save(job);
+        // flush so auditing stamps updatedAt before the search index snapshot copies it
+        job = jobRepository.saveAndFlush(job);
+        eventPublisher.publishEvent(JobChangedEvent.saved(job));
         log.info("Job updated: '{}' by {}", job.getTitle(), currentUser.getEmail());
         return mapToResponse(job);
     }
@@ -123,46 +288,133 @@ public class JobService {
         }
 
         jobRepository.delete(job);
+        eventPublisher.publishEvent(JobChangedEvent.deleted(job));
         log.info("Job deleted: id={} by {}", id, currentUser.getEmail());
     }
 
     @Transactional(readOnly = true)
     public List<ApiResponse.JobResponse> getMyJobs() {
         User company = userService.getCurrentUser();
-        return jobRepository.findByCompanyOrderByCreatedAtDesc(company)
-                .stream().map(this::mapToResponse).toList();
+        return mapToResponses(jobRepository.findIdsByCompanyOrderByCreatedAtDesc(company));
     }
 
     @Transactional(readOnly = true)
     public ApiResponse.DashboardStats getDashboardStats() {
-        User company = userService.getCurrentUser();
-        List<Job> jobs = jobRepository.findByCompanyOrderByCreatedAtDesc(company);
-
-        long totalJobs = jobs.size();
-        long activeJobs = jobs.stream().filter(j -> j.getStatus() == Job.JobStatus.ACTIVE).count();
-        long closedJobs = jobs.stream().filter(j -> j.getStatus() == Job.JobStatus.CLOSED).count();
-        long totalApps = jobs.stream().mapToLong(j -> j.getApplications() != null ? j.getApplications().size() : 0).sum();
-        LocalDateTime weekAgo = LocalDateTime.now().minusDays(7);
-        long newApps = jobs.stream()
-                .flatMap(j -> j.getApplications() != null ? j.getApplications().stream() : java.util.stream.Stream.empty())
-                .filter(a -> a.getCreatedAt() != null && a.getCreatedAt().isAfter(weekAgo))
-                .count();
-
-        return ApiResponse.DashboardStats.builder()
-                .totalJobs(totalJobs)
-                .activeJobs(activeJobs)
-                .closedJobs(closedJobs)
-                .totalApplications(totalApps)
-                .newApplicationsThisWeek(newApps)
-                .build();
+        return companyStatsCache.get(userService.getCurrentUser());
     }
 
     // ===== HELPERS =====
+    private ApiResponse.PageResponse<ApiResponse.JobResponse> searchDatabase(
+            JobSearchCriteria c, Pageable pageable, boolean count) {
+        if (c.hasText()) return searchDatabaseText(c, count);
+        if (c.cursor() != null) {
+            Slice<Job> slice = jobRepository.findJobsWithFiltersBefore(
+                    c.type(), c.level(), c.category(), c.location(),
+                    c.cursor().createdAt(), c.cursor().jobId(), PageRequest.of(0, c.size()));
+            JobCursor next = null;
+            if (slice.hasNext()) {
+                Job lastJob = slice.getContent().get(slice.getNumberOfElements() - 1);
+                next = JobCursor.of(lastJob.getCreatedAt(), lastJob.getId());
+            }
+            return toPageResponse(idsOf(slice.getContent()), c, null, !slice.hasNext(), next, null);
+        }
+        if (!count) {
+            Slice<Job> slice = jobRepository.findJobsWithFiltersNoCount(
+                    c.type(), c.level(), c.category(), c.location(), pageable);
+            return toPageResponse(idsOf(slice.getContent()), c, null, !slice.hasNext(), null, null);
+        }
+        Page<Job> jobPage = jobRepository.findJobsWithFilters(
+                c.type(), c.level(), c.category(), c.location(), pageable);
+        return toPageResponse(idsOf(jobPage.getContent()), c, jobPage.getTotalElements(), jobPage.isLast(), null, null);
+    }
+
+    /** Scans the filtered jobs newest first and keeps those whose title or description contains the keywords. */
+    private ApiResponse.PageResponse<ApiResponse.JobResponse> searchDatabaseText(JobSearchCriteria c, boolean count) {
+        String keywords = c.search().trim().toLowerCase(Locale.ROOT);
+        // as in findJobsWithFiltersBefore, the first cursor page has no lower bound
+        LocalDateTime before = c.cursor() != null ? c.cursor().createdAt() : null;
+        long skip = c.cursor() != null ? 0 : (long) c.page() * c.size();
+        List<Job> page = new ArrayList<>(c.size());
+        long matched = 0;
+        boolean more = false;
+        try (Stream<Job> jobs = jobRepository.streamJobsWithFilters(c.type(), c.level(), c.category(), c.location())) {
+            Iterator<Job> it = jobs
+                    .filter(job -> before == null || job.getCreatedAt().isBefore(before)
+                            || job.getCreatedAt().isEqual(before) && job.getId() < c.cursor().jobId())
+                    .filter(job -> containsIgnoreCase(job.getTitle(), keywords)
+                            || containsIgnoreCase(job.getDescription(), keywords))
+                    .iterator();
+            while (it.hasNext()) {
+                Job job = it.next();
+                if (matched >= skip + c.size()) {
+                    more = true;
+                    if (!count || c.cursor() != null) break;
+                } else if (matched >= skip) {
+                    page.add(job);
+                }
+                matched++;
+            }
+        }
+        JobCursor next = null;
+        if (c.cursor() != null && more) {
+            Job lastJob = page.get(page.size() - 1);
+            next = JobCursor.of(lastJob.getCreatedAt(), lastJob.getId());
+        }
+        Long total = count && c.cursor() == null ? matched : null;
+        return toPageResponse(idsOf(page), c, total, !more, next, null);
+    }
+
+    private static boolean containsIgnoreCase(String text, String keywords) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(keywords);
+    }
+
+    private ApiResponse.PageResponse<ApiResponse.JobResponse> toPageResponse(
+            List<Long> jobIds, JobSearchCriteria criteria, Long totalElements, boolean last,
+            JobCursor nextCursor, Map<String, Map<String, Long>> facets) {
+        return ApiResponse.PageResponse.<ApiResponse.JobResponse>builder()
+                .content(mapToResponses(jobIds))
+                .page(criteria.cursor() != null ? 0 : criteria.page())
+                .size(criteria.size())
+                .totalElements(totalElements)
+                .totalPages(totalElements != null
+                        ? (int) Math.ceil((double) totalElements / criteria.size()) : null)
+                .last(last)
+                .nextCursor(nextCursor != null ? nextCursor.encode() : null)
+                .facets(facets)
+                .build();
+    }
+
+    private <T> T readOnly(Supplier<T> work) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> work.get());
+    }
+
+    private List<Job> findAllInOrder(List<Long> ids) {
+        Map<Long, Job> byId = jobRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
     public Job findJobOrThrow(Long id) {
         return jobRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Job", id));
     }
 
+    /**
+     * Maps the jobs with the given ids, in that order, skipping ids that no longer exist.
+     * The jobs are loaded here with their company and texts in one query, so a list costs
+     * the same few statements whatever the caller loaded before.
+     */
+    public List<ApiResponse.JobResponse> mapToResponses(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        return findAllInOrder(ids).stream().map(this::mapToResponse).toList();
+    }
+
+    private static List<Long> idsOf(List<Job> jobs) {
+        return jobs.stream().map(Job::getId).toList();
+    }
+
     public ApiResponse.JobResponse mapToResponse(Job job) {
         return ApiResponse.JobResponse.builder()
                 .id(job.getId())
@@ -171,6 +423,10 @@ public class JobService {
                 .requirements(job.getRequirements())
                 .location(job.getLocation())
                 .salary(job.getSalary())
+                .salaryMin(job.getSalaryMin())
+                .salaryMax(job.getSalaryMax())
+                .salaryCurrency(job.getSalaryCurrency())
+                .salaryPeriod(job.getSalaryPeriod() != null ? job.getSalaryPeriod().name() : null)
                 .type(job.getType().name())
                 .level(job.getLevel().name())
                 .category(job.getCategory().name())
@@ -178,10 +434,11 @@ public class JobService {
                 .benefits(job.getBenefits())
                 .deadline(job.getDeadline())
                 .status(job.getStatus().name())
+                .duplicateOf(job.getDuplicateOf())
                 .companyId(job.getCompany().getId())
                 .companyName(job.getCompany().getCompanyName() != null
                         ? job.getCompany().getCompanyName() : job.getCompany().getName())
-                .applicationCount(job.getApplications() != null ? job.getApplications().size() : 0)
+                .applicationCount(job.getApplicationCount())
                 .createdAt(job.getCreatedAt())
                 .updatedAt(job.getUpdatedAt())
                 .build();
@@ -0,0 +1,275 @@
+package com.hireflow.service.impl;
+
+import com.hireflow.dto.request.SavedSearchRequest;
+import com.hireflow.dto.response.ApiResponse;
+import com.hireflow.entity.GeoLocation;
+import com.hireflow.entity.Job;
+import com.hireflow.entity.JobAlert;
+import com.hireflow.entity.SavedSearch;
+import com.hireflow.entity.User;
+import com.hireflow.exception.AccessDeniedException;
+import com.hireflow.exception.ResourceNotFoundException;
+import com.hireflow.geo.Gazetteer;
+import com.hireflow.repository.JobAlertRepository;
+import com.hireflow.repository.JobRepository;
+import com.hireflow.repository.SavedSearchRepository;
+import com.hireflow.repository.UserRepository;
+import com.hireflow.search.JobIndexUpdatedEvent;
+import com.hireflow.search.SavedSearchChangedEvent;
+import com.hireflow.search.SavedSearchIndex;
+import com.hireflow.skill.SkillDictionary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SavedSearchService {
+
+    private static final int MAX_SAVED_SEARCHES = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final JobAlertRepository jobAlertRepository;
+    private final JobRepository jobRepository;
+    private final UserRepository userRepository;
+    private final UserService userService;
+    private final JobService jobService;
+    private final SavedSearchIndex savedSearchIndex;
+    private final Gazetteer gazetteer;
+    private final SkillDictionary skillDictionary;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+    private final AtomicLong alertsWritten = new AtomicLong();
+    private final AtomicLong alertsSkipped = new AtomicLong();
+    private final AtomicLong alertFailures = new AtomicLong();
+
+    @Transactional
+    public ApiResponse.SavedSearchResponse createSavedSearch(SavedSearchRequest request) {
+        User user = userService.getCurrentUser();
+        if (savedSearchRepository.countByUser(user) >= MAX_SAVED_SEARCHES) {
+            throw new IllegalArgumentException("You can save at most " + MAX_SAVED_SEARCHES + " searches");
+        }
+        if (request.getMinSalary() != null && request.getMaxSalary() != null
+                && request.getMinSalary() > request.getMaxSalary()) {
+            throw new IllegalArgumentException("minSalary must not be greater than maxSalary");
+        }
+
+        SavedSearch savedSearch = SavedSearch.builder()
+                .user(user)
+                .name(request.getName().trim())
+                .search(blankToNull(request.getSearch()))
+                .type(parseEnum(Job.JobType.class, "type", request.getType()))
+                .level(parseEnum(Job.JobLevel.class, "level", request.getLevel()))
+                .category(parseEnum(Job.JobCategory.class, "category", request.getCategory()))
+                .location(blankToNull(request.getLocation()))
+                .skills(request.getSkills() != null ? skillDictionary.resolve(request.getSkills()) : List.of())
+                .matchAllSkills("all".equalsIgnoreCase(request.getSkillMatch()))
+                .minSalary(request.getMinSalary())
+                .maxSalary(request.getMaxSalary())
+                .currency(request.getCurrency() != null && !request.getCurrency().isBlank()
+                        ? request.getCurrency().trim().toUpperCase() : null)
+                .build();
+        if (request.getNear() != null && !request.getNear().isBlank()) {
+            double km = request.getRadiusKm() != null ? request.getRadiusKm() : JobService.DEFAULT_RADIUS_KM;
+            if (km <= 0 || km > JobService.MAX_RADIUS_KM) {
+                throw new IllegalArgumentException("radiusKm must be between 0 and " + (int) JobService.MAX_RADIUS_KM);
+            }
+            GeoLocation centre = gazetteer.locate(request.getNear())
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown location: " + request.getNear()));
+            savedSearch.setNear(request.getNear().trim());
+            savedSearch.setNearLatitude(centre.getLatitude());
+            savedSearch.setNearLongitude(centre.getLongitude());
+            savedSearch.setRadiusKm(km);
+        }
+
+        savedSearch = savedSearchRepository.save(savedSearch);
+        eventPublisher.publishEvent(SavedSearchChangedEvent.saved(savedSearch));
+        log.info("Search saved: '{}' by {}", savedSearch.getName(), user.getEmail());
+        return mapToResponse(savedSearch);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ApiResponse.SavedSearchResponse> getMySavedSearches() {
+        User user = userService.getCurrentUser();
+        return savedSearchRepository.findByUserOrderByCreatedAtDesc(user)
+                .stream().map(this::mapToResponse).toList();
+    }
+
+    @Transactional
+    public void deleteSavedSearch(Long id) {
+        SavedSearch savedSearch = savedSearchRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Saved search", id));
+        User user = userService.getCurrentUser();
+        if (!savedSearch.getUser().getId().equals(user.getId())) {
+            throw new AccessDeniedException("You can only delete your own saved searches");
+        }
+        savedSearchRepository.delete(savedSearch);
+        eventPublisher.publishEvent(SavedSearchChangedEvent.deleted(id));
+    }
+
+    @Transactional(readOnly = true)
+    public ApiResponse.PageResponse<ApiResponse.JobAlertResponse> getMyAlerts(boolean unreadOnly, int page, int size) {
+        User user = userService.getCurrentUser();
+        PageRequest pageable = PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE));
+        Page<JobAlert> alerts = unreadOnly
+                ? jobAlertRepository.findByUserAndReadFalseOrderByCreatedAtDescIdDesc(user, pageable)
+                : jobAlertRepository.findByUserOrderByCreatedAtDescIdDesc(user, pageable);
+        Map<Long, ApiResponse.JobResponse> jobs = jobService.mapToResponses(
+                        alerts.getContent().stream().map(alert -> alert.getJob().getId()).distinct().toList())
+                .stream().collect(Collectors.toMap(ApiResponse.JobResponse::getId, Function.identity()));
+        return ApiResponse.PageResponse.<ApiResponse.JobAlertResponse>builder()
+                .content(alerts.getContent().stream()
+                        .map(alert -> mapToResponse(alert, jobs.get(alert.getJob().getId())))
+                        .toList())
+                .page(alerts.getNumber())
+                .size(alerts.getSize())
+                .totalElements(alerts.getTotalElements())
+                .totalPages(alerts.getTotalPages())
+                .last(alerts.isLast())
+                .build();
+    }
+
+    @Transactional
+    public ApiResponse.JobAlertResponse markAlertRead(Long id) {
+        JobAlert alert = jobAlertRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Alert", id));
+        User user = userService.getCurrentUser();
+        if (!alert.getUser().getId().equals(user.getId())) {
+            throw new AccessDeniedException("You can only update your own alerts");
+        }
+        alert.setRead(true);
+        return mapToResponse(alert, jobService.mapToResponse(alert.getJob()));
+    }
+
+    /**
+     * Files an alert for every saved search the changed job has started to match.
+     * Runs after the job's transaction committed, so alerts are written in a new one;
+     * a failure here never surfaces to the request that changed the job. Searches
+     * deleted meanwhile are skipped. If the batch still fails, e.g. because a search was
+     * deleted or an alert written by another node after the check, every alert is
+     * retried on its own, so one bad row costs only its own alert. Alerts that still
+     * cannot be written are logged and counted at /actuator/alerts.
+     */
+    @EventListener
+    public void onJobIndexUpdated(JobIndexUpdatedEvent event) {
+        List<SavedSearchIndex.Match> matches = savedSearchIndex.percolate(event.before(), event.after());
+        if (matches.isEmpty()) return;
+
+        Long jobId = event.after().id();
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            int written = template.execute(status -> writeAlerts(jobId, matches));
+            log.debug("Job {} matched {} saved searches, {} new alerts", jobId, matches.size(), written);
+        } catch (RuntimeException e) {
+            log.debug("Could not write the alerts for job {} at once, writing them one by one: {}", jobId, e.getMessage());
+            for (SavedSearchIndex.Match match : matches) {
+                try {
+                    template.execute(status -> writeAlerts(jobId, List.of(match)));
+                } catch (RuntimeException retryFailure) {
+                    alertFailures.incrementAndGet();
+                    log.warn("Could not write the alert of saved search {} for job {}",
+                            match.savedSearchId(), jobId, retryFailure);
+                }
+            }
+        }
+    }
+
+    /** Counters of alerts written, skipped because the search or job is gone, and not written. */
+    public Map<String, Object> alertStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("written", alertsWritten.get());
+        stats.put("skipped", alertsSkipped.get());
+        stats.put("failed", alertFailures.get());
+        return stats;
+    }
+
+    private int writeAlerts(Long jobId, List<SavedSearchIndex.Match> matches) {
+        if (!jobRepository.existsById(jobId)) {
+            alertsSkipped.addAndGet(matches.size());
+            return 0;
+        }
+        Set<Long> alerted = new HashSet<>(jobAlertRepository.findSavedSearchIdsByJobId(jobId));
+        Set<Long> existing = new HashSet<>(savedSearchRepository.findExistingIds(
+                matches.stream().map(SavedSearchIndex.Match::savedSearchId).toList()));
+        Job job = jobRepository.getReferenceById(jobId);
+        List<JobAlert> alerts = matches.stream()
+                .filter(match -> existing.contains(match.savedSearchId()) && alerted.add(match.savedSearchId()))
+                .map(match -> JobAlert.builder()
+                        .user(userRepository.getReferenceById(match.userId()))
+                        .savedSearch(savedSearchRepository.getReferenceById(match.savedSearchId()))
+                        .job(job)
+                        .build())
+                .toList();
+        jobAlertRepository.saveAll(alerts);
+        alertsWritten.addAndGet(alerts.size());
+        alertsSkipped.addAndGet(matches.stream().filter(match -> !existing.contains(match.savedSearchId())).count());
+        return alerts.size();
+    }
+
+    // ===== HELPERS =====
+
+    private ApiResponse.SavedSearchResponse mapToResponse(SavedSearch s) {
+        return ApiResponse.SavedSearchResponse.builder()
+                .id(s.getId())
+                .name(s.getName())
+                .search(s.getSearch())
+                .type(s.getType() != null ? s.getType().name() : null)
+                .level(s.getLevel() != null ? s.getLevel().name() : null)
+                .category(s.getCategory() != null ? s.getCategory().name() : null)
+                .location(s.getLocation())
+                .near(s.getNear())
+                .radiusKm(s.getRadiusKm())
+                .skills(s.getSkills())
+                .skillMatch(s.isMatchAllSkills() ? "all" : "any")
+                .minSalary(s.getMinSalary())
+                .maxSalary(s.getMaxSalary())
+                .currency(s.getCurrency())
+                .createdAt(s.getCreatedAt())
+                .build();
+    }
+
+    private ApiResponse.JobAlertResponse mapToResponse(JobAlert alert, ApiResponse.JobResponse job) {
+        return ApiResponse.JobAlertResponse.builder()
+                .id(alert.getId())
+                .savedSearchId(alert.getSavedSearch().getId())
+                .savedSearchName(alert.getSavedSearch().getName())
+                .job(job)
+                .read(alert.isRead())
+                .createdAt(alert.getCreatedAt())
+                .build();
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    // Unlike GET /api/jobs, an unknown value is rejected rather than ignored, so it cannot widen the alert
+    private static <T extends Enum<T>> T parseEnum(Class<T> enumClass, String field, String value) {
+        if (value == null || value.isBlank()) return null;
+        try {
+            return Enum.valueOf(enumClass, value.toUpperCase().replace("-", "_").replace(" ", "_"));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown " + field + ": " + value);
+        }
+    }
+}
@@ -1,29 +1,52 @@
 package com.hireflow.service.impl;
 
+import com.hireflow.dto.request.CandidateSearchRequest;
 import com.hireflow.dto.request.ProfileUpdateRequest;
 import com.hireflow.dto.response.ApiResponse;
 import com.hireflow.entity.User;
 import com.hireflow.exception.ResourceNotFoundException;
+import com.hireflow.geo.Gazetteer;
 import com.hireflow.repository.UserRepository;
+import com.hireflow.search.CandidateChangedEvent;
+import com.hireflow.search.CandidateDocument;
+import com.hireflow.search.CandidateSearchCriteria;
+import com.hireflow.search.CandidateSearchIndex;
+import com.hireflow.search.CandidateSearchResult;
+import com.hireflow.skill.SkillDictionary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
+    private final Gazetteer gazetteer;
+    private final SkillDictionary skillDictionary;
+    private final CandidateSearchIndex candidateSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     public User getCurrentUser() {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        return userRepository.findByEmail(email)
+        return userRepository.findByEmail(getCurrentEmail())
                 .orElseThrow(() -> new ResourceNotFoundException("Current user not found"));
     }
 
+    /** The authenticated user's email, without loading the user. */
+    public String getCurrentEmail() {
+        return SecurityContextHolder.getContext().getAuthentication().getName();
+    }
+
+    @Transactional(readOnly = true)
     public ApiResponse.UserResponse getProfile() {
         return mapToResponse(getCurrentUser());
     }
@@ -33,13 +56,16 @@ public class UserService {
         User user = getCurrentUser();
 
         if (request.getName() != null && !request.getName().isBlank()) user.setName(request.getName());
-        if (request.getLocation() != null) user.setLocation(request.getLocation());
+        if (request.getLocation() != null) {
+            user.setLocation(request.getLocation());
+            user.setGeo(gazetteer.locate(request.getLocation()).orElse(null));
+        }
         if (request.getPhone() != null) user.setPhone(request.getPhone());
 
         if (user.getRole() == User.Role.JOBSEEKER) {
             if (request.getTitle() != null) user.setTitle(request.getTitle());
             if (request.getBio() != null) user.setBio(request.getBio());
-            if (request.getSkills() != null) user.setSkills(request.getSkills());
+            if (request.getSkills() != null) user.setSkills(skillDictionary.canonicalize(request.getSkills()));
         } else if (user.getRole() == User.Role.COMPANY) {
             if (request.getCompanyName() != null) user.setCompanyName(request.getCompanyName());
             if (request.getIndustry() != null) user.setIndustry(request.getIndustry());
@@ -48,11 +74,44 @@ public class UserService {
             if (request.getCompanyDescription() != null) user.setCompanyDescription(request.getCompanyDescription());
         }
 
-        user = userRepository.save(user);
+        // flushed first so the event carries the new updatedAt, which orders candidate results
+        user = userRepository.saveAndFlush(user);
+        if (user.getRole() == User.Role.JOBSEEKER) eventPublisher.publishEvent(CandidateChangedEvent.saved(user));
         log.info("Profile updated for user: {}", user.getEmail());
         return mapToResponse(user);
     }
 
+    public ApiResponse.PageResponse<ApiResponse.CandidateResponse> searchCandidates(
+            CandidateSearchRequest request) {
+        int size = Math.max(1, Math.min(request.getSize(), MAX_PAGE_SIZE));
+        CandidateSearchCriteria criteria = new CandidateSearchCriteria(
+                request.getSearch(), skillDictionary.resolve(request.getSkills()), "all".equalsIgnoreCase(request.getSkillMatch()),
+                request.getLocation(), Math.max(0, request.getPage()), size);
+        CandidateSearchResult result = candidateSearchIndex.search(criteria);
+
+        List<ApiResponse.CandidateResponse> content = new ArrayList<>(result.candidates().size());
+        for (int i = 0; i < result.candidates().size(); i++) {
+            CandidateDocument candidate = result.candidates().get(i);
+            content.add(ApiResponse.CandidateResponse.builder()
+                    .id(candidate.id())
+                    .name(candidate.name())
+                    .title(candidate.title())
+                    .bio(candidate.bio())
+                    .location(candidate.location())
+                    .skills(candidate.skills())
+                    .score(result.scores() != null ? Math.round(result.scores().get(i) * 1000) / 1000.0 : null)
+                    .build());
+        }
+        return ApiResponse.PageResponse.<ApiResponse.CandidateResponse>builder()
+                .content(content)
+                .page(criteria.page())
+                .size(size)
+                .totalElements(result.totalElements())
+                .totalPages((int) Math.ceil((double) result.totalElements() / size))
+                .last((long) (criteria.page() + 1) * size >= result.totalElements())
+                .build();
+    }
+
     public ApiResponse.UserResponse mapToResponse(User user) {
         return ApiResponse.UserResponse.builder()
                 .id(user.getId())
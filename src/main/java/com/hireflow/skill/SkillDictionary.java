@@ -0,0 +1,172 @@
+package com.hireflow.skill;
+
+import com.hireflow.entity.Skill;
+import com.hireflow.repository.SkillRepository;
+import com.hireflow.search.Tokenizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonical skill names and their dense integer ids.
+ * <p>
+ * Names are matched by their {@link Tokenizer#normalize normalized} key, and the aliases
+ * in {@code skills/aliases.csv} ("reactjs", "react.js") resolve to their canonical skill
+ * ("React"). The {@code skills} table assigns ids; unknown skills are added on first
+ * write. Ids are rendered through an in-memory array, so every loaded skill list shares
+ * the same name instances.
+ */
+@Slf4j
+@Component
+public class SkillDictionary {
+
+    private static final String ALIASES = "skills/aliases.csv";
+
+    private final SkillRepository skillRepository;
+    private final TransactionTemplate newTransaction;
+    // normalized canonical name or alias -> canonical name, from the bundled list
+    private final Map<String, String> canonicalNames = new HashMap<>();
+    private final Map<String, Integer> idsByKey = new ConcurrentHashMap<>();
+    // copied on every registration, which is rare next to lookups
+    private volatile String[] names = new String[0];
+
+    public SkillDictionary(SkillRepository skillRepository, PlatformTransactionManager transactionManager) {
+        this.skillRepository = skillRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        readAliases();
+        List<Skill> skills = newTransaction.execute(status -> skillRepository.findAll());
+        skills.forEach(this::put);
+        log.info("Skill dictionary loaded: {} skills, {} known names", skills.size(), canonicalNames.size());
+    }
+
+    /** The id of a known skill or one of its aliases; null when the skill was never written. */
+    public Integer idOf(String skill) {
+        String key = keyOf(skill);
+        return key.isEmpty() ? null : idsByKey.get(key);
+    }
+
+    /**
+     * The id of the skill, adding it to the dictionary when it is new. A new skill is saved
+     * in its own transaction, so call this before the entity holding it is flushed.
+     */
+    public int register(String skill) {
+        String key = keyOf(skill);
+        if (key.isEmpty()) throw new IllegalArgumentException("Invalid skill: '" + skill + "'");
+        Integer id = idsByKey.get(key);
+        if (id != null) return id;
+
+        synchronized (this) {
+            id = idsByKey.get(key);
+            if (id != null) return id;
+            String name = canonicalNames.getOrDefault(Tokenizer.normalize(skill), skill.trim());
+            Skill saved;
+            try {
+                saved = newTransaction.execute(status -> skillRepository.findByKey(key)
+                        .orElseGet(() -> skillRepository.save(Skill.builder().name(name).key(key).build())));
+            } catch (DataIntegrityViolationException e) {
+                // another instance added it first
+                saved = newTransaction.execute(status -> skillRepository.findByKey(key).orElseThrow(() -> e));
+            }
+            put(saved);
+            return saved.getId();
+        }
+    }
+
+    public String name(int id) {
+        String[] current = names;
+        if (id < current.length && current[id] != null) return current[id];
+        // added by another instance since startup
+        Skill skill = newTransaction.execute(status -> skillRepository.findById(id).orElse(null));
+        if (skill == null) return null;
+        synchronized (this) {
+            put(skill);
+        }
+        return names[id];
+    }
+
+    /**
+     * Canonical names of the given skills for storing on a job or profile: aliases and
+     * case variants collapse into one entry, blank entries are dropped and new skills
+     * are added to the dictionary. Every list saved on an entity must pass through here
+     * first; see {@link SkillListConverter}. Null stays null.
+     */
+    public List<String> canonicalize(Collection<String> skills) {
+        if (skills == null) return null;
+        Set<String> canonical = new LinkedHashSet<>();
+        for (String skill : skills) {
+            if (skill == null || keyOf(skill).isEmpty()) continue;
+            canonical.add(name(register(skill)));
+        }
+        return new ArrayList<>(canonical);
+    }
+
+    /** Canonical names of skills in a query; unknown skills are kept as given, never added. */
+    public List<String> resolve(Collection<String> skills) {
+        if (skills == null) return null;
+        return skills.stream()
+                .map(skill -> {
+                    Integer id = idOf(skill);
+                    return id != null ? name(id) : canonicalNames.getOrDefault(Tokenizer.normalize(skill), skill);
+                })
+                .toList();
+    }
+
+    // ===== INTERNALS =====
+
+    private String keyOf(String skill) {
+        String normalized = Tokenizer.normalize(skill);
+        String canonical = canonicalNames.get(normalized);
+        return canonical != null ? Tokenizer.normalize(canonical) : normalized;
+    }
+
+    // callers other than the constructor hold the monitor
+    private void put(Skill skill) {
+        // a skill stored under its own key before that became an alias renders as the canonical name
+        String name = canonicalNames.getOrDefault(skill.getKey(), skill.getName());
+        String[] current = names;
+        String[] updated = Arrays.copyOf(current, Math.max(current.length, skill.getId() + 1));
+        updated[skill.getId()] = name;
+        names = updated;
+        idsByKey.putIfAbsent(skill.getKey(), skill.getId());
+    }
+
+    private void readAliases() {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(ALIASES).getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) continue;
+                String[] fields = line.split(",", -1);
+                String canonical = fields[0].trim();
+                canonicalNames.put(Tokenizer.normalize(canonical), canonical);
+                if (fields.length > 1 && !fields[1].isEmpty()) {
+                    Arrays.stream(fields[1].split("\\|"))
+                            .forEach(alias -> canonicalNames.put(Tokenizer.normalize(alias), canonical));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + ALIASES, e);
+        }
+    }
+}
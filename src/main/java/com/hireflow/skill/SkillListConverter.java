@@ -0,0 +1,58 @@
+package com.hireflow.skill;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores a skill list in one column as comma separated {@link SkillDictionary} ids
+ * ("12,5,31"). Created by Hibernate through Spring; the dictionary is looked up on use
+ * since it needs the entity manager itself.
+ * <p>
+ * Only looks ids up: the lists must come from {@link SkillDictionary#canonicalize}, which
+ * registers new skills before the flush, so no transaction is opened while flushing.
+ */
+@Converter
+public class SkillListConverter implements AttributeConverter<List<String>, String> {
+
+    private final ObjectProvider<SkillDictionary> dictionary;
+
+    public SkillListConverter(ObjectProvider<SkillDictionary> dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    @Override
+    public String convertToDatabaseColumn(List<String> skills) {
+        if (skills == null) return null;
+        SkillDictionary skillDictionary = dictionary.getObject();
+        StringBuilder encoded = new StringBuilder(skills.size() * 4);
+        for (String skill : skills) {
+            if (!encoded.isEmpty()) encoded.append(',');
+            Integer id = skillDictionary.idOf(skill);
+            if (id == null) {
+                throw new IllegalStateException("Skill '" + skill + "' is not registered; canonicalize skill lists before saving");
+            }
+            encoded.append(id);
+        }
+        return encoded.toString();
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(String encoded) {
+        List<String> skills = new ArrayList<>();
+        if (encoded == null || encoded.isEmpty()) return skills;
+        SkillDictionary skillDictionary = dictionary.getObject();
+        int start = 0;
+        while (start < encoded.length()) {
+            int end = encoded.indexOf(',', start);
+            if (end < 0) end = encoded.length();
+            String name = skillDictionary.name(Integer.parseInt(encoded, start, end, 10));
+            if (name != null) skills.add(name);
+            start = end + 1;
+        }
+        return skills;
+    }
+}
@@ -0,0 +1,100 @@
+package com.hireflow.util;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Stores text as UTF-8 bytes behind a one-byte format marker; values of at least
+ * {@code app.text.compress-min-bytes} are deflated when that makes them smaller.
+ * Short texts rarely shrink enough to pay for the inflate on every read.
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+
+    /** Column capacity; a MEDIUMBLOB on MySQL. */
+    public static final int MAX_BYTES = 16_777_215;
+
+    private static final byte PLAIN = 0;
+    private static final byte DEFLATED = 1;
+
+    private final int compressMinBytes;
+
+    public CompressedTextConverter(@Value("${app.text.compress-min-bytes:512}") int compressMinBytes) {
+        this.compressMinBytes = compressMinBytes;
+    }
+
+    @Override
+    public byte[] convertToDatabaseColumn(String text) {
+        if (text == null) return null;
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        if (utf8.length >= compressMinBytes) {
+            byte[] deflated = deflate(utf8);
+            if (deflated.length < utf8.length) return deflated;
+        }
+        byte[] stored = new byte[utf8.length + 1];
+        stored[0] = PLAIN;
+        System.arraycopy(utf8, 0, stored, 1, utf8.length);
+        return stored;
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] stored) {
+        if (stored == null) return null;
+        if (stored.length == 0) return "";
+        return switch (stored[0]) {
+            case PLAIN -> new String(stored, 1, stored.length - 1, StandardCharsets.UTF_8);
+            case DEFLATED -> new String(inflate(stored), StandardCharsets.UTF_8);
+            default -> throw new IllegalStateException("Unknown text format: " + stored[0]);
+        };
+    }
+
+    // marker, original length as 4 bytes, raw deflate stream
+    private static byte[] deflate(byte[] utf8) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(utf8);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(utf8.length / 2 + 16);
+            out.write(DEFLATED);
+            out.write(utf8.length >>> 24);
+            out.write(utf8.length >>> 16);
+            out.write(utf8.length >>> 8);
+            out.write(utf8.length);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] stored) {
+        int length = (stored[1] & 0xFF) << 24 | (stored[2] & 0xFF) << 16 | (stored[3] & 0xFF) << 8 | stored[4] & 0xFF;
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(stored, 5, stored.length - 5);
+            byte[] utf8 = new byte[length];
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                int n = inflater.inflate(utf8, read, length - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) break;
+                read += n;
+            }
+            if (read != length) throw new IllegalStateException("Truncated compressed text");
+            return utf8;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt compressed text", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.hireflow.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-min sketch: approximate per-key counts in a fixed {@code depth x width} table.
+ * Estimates never undercount and overcount by at most about {@code 2N / width} with
+ * high probability, N being the total added. Lock-free; each add is {@code depth}
+ * atomic increments.
+ */
+public final class CountMinSketch {
+
+    private final int depth;
+    private final int mask;
+    private final AtomicLongArray counts;
+
+    /** {@code width} is rounded up to a power of two. */
+    public CountMinSketch(int depth, int width) {
+        this.depth = depth;
+        int w = Integer.highestOneBit(Math.max(2, width - 1)) << 1;
+        this.mask = w - 1;
+        this.counts = new AtomicLongArray(depth * w);
+    }
+
+    /** Adds one occurrence of the key and returns its new estimate. */
+    public long add(Object key) {
+        int hash = key.hashCode();
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            long count = counts.incrementAndGet(row * (mask + 1) + index(hash, row));
+            estimate = Math.min(estimate, count);
+        }
+        return estimate;
+    }
+
+    // a different multiplicative mix per row stands in for independent hash functions
+    private int index(int hash, int row) {
+        int h = hash * (0x9E3779B1 + 2 * row);
+        h ^= h >>> 15;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        return h & mask;
+    }
+}
@@ -0,0 +1,25 @@
+package com.hireflow.util;
+
+/**
+ * Fast non-cryptographic hashing for sketches and fingerprints.
+ */
+public final class Hashing {
+
+    private Hashing() {
+    }
+
+    /** FNV-1a over the chars, then the MurmurHash3 finalizer to spread the bits. */
+    public static long hash64(CharSequence value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe53ba32fL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,64 @@
+package com.hireflow.util;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Approximate top-k most frequent keys in constant memory.
+ * <p>
+ * Counts come from a {@link CountMinSketch}; only the {@code k} keys with the highest
+ * estimates are kept by name. Offering a key is lock-free unless it displaces a tracked
+ * key, which only happens while the ranking is still settling.
+ */
+public final class HeavyHitters {
+
+    private static final int SKETCH_DEPTH = 4;
+
+    private final int capacity;
+    private final CountMinSketch sketch;
+    private final Map<String, Long> tracked = new ConcurrentHashMap<>();
+    private final LongAdder total = new LongAdder();
+    // lowest tracked estimate, maintained under the lock; a stale value only costs a lock
+    private volatile long floor;
+
+    public HeavyHitters(int capacity, int sketchWidth) {
+        this.capacity = capacity;
+        this.sketch = new CountMinSketch(SKETCH_DEPTH, sketchWidth);
+    }
+
+    public void offer(String key) {
+        total.increment();
+        long estimate = sketch.add(key);
+        if (tracked.computeIfPresent(key, (k, old) -> Math.max(old, estimate)) != null) return;
+        if (tracked.size() >= capacity && estimate <= floor) return;
+
+        synchronized (this) {
+            tracked.merge(key, estimate, Math::max);
+            if (tracked.size() > capacity) {
+                tracked.entrySet().stream()
+                        .min(Map.Entry.comparingByValue())
+                        .ifPresent(weakest -> tracked.remove(weakest.getKey()));
+            }
+            floor = tracked.size() < capacity ? 0
+                    : tracked.values().stream().mapToLong(Long::longValue).min().orElse(0);
+        }
+    }
+
+    /** Tracked keys by estimated count, highest first. */
+    public Map<String, Long> top(int limit) {
+        Map<String, Long> top = new LinkedHashMap<>();
+        tracked.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .forEach(e -> top.put(e.getKey(), e.getValue()));
+        return top;
+    }
+
+    public long total() {
+        return total.sum();
+    }
+
+}
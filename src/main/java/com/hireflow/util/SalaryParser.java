@@ -0,0 +1,136 @@
+package com.hireflow.util;
+
+import com.hireflow.entity.Job;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parses free-text salaries such as "$120,000 – $160,000", "80k-100k EUR",
+ * "£40/hr" or "12 LPA" into a numeric range, currency and pay period.
+ */
+public final class SalaryParser {
+
+    public record ParsedSalary(long min, long max, String currency, Job.SalaryPeriod period) {
+
+        public long annualMin() {
+            return annualize(min, period);
+        }
+
+        public long annualMax() {
+            return annualize(max, period);
+        }
+    }
+
+    private static final Pattern AMOUNT = Pattern.compile(
+            "(?<![\\d.,])(\\d{1,3}(?:[.,]\\d{3})++|\\d++(?:\\.\\d++)?)(?:\\s*(k|m|lpa|lakhs?)(?![a-z]))?");
+
+    // amounts written with thousands separators ("50,000") are never scaled by a range's unit
+    private static final Pattern GROUPED = Pattern.compile("\\d{1,3}(?:[.,]\\d{3})+");
+
+    // longer symbols first so "ca$" is not read as "$"
+    private static final Pattern SYMBOL = Pattern.compile("(?<![a-z])(?:ca|c|a)\\$|[$€£₹¥]");
+
+    private static final Map<String, String> SYMBOLS = Map.of(
+            "c$", "CAD", "ca$", "CAD", "a$", "AUD", "$", "USD",
+            "€", "EUR", "£", "GBP", "₹", "INR", "¥", "JPY");
+
+    private static final Pattern CODE = Pattern.compile("\\b(usd|eur|gbp|inr|cad|aud|jpy|chf|sgd|nzd)\\b");
+
+    private SalaryParser() {
+    }
+
+    /** Returns null when no amount can be found. */
+    public static ParsedSalary parse(String salary) {
+        if (salary == null || salary.isBlank()) return null;
+        String text = salary.toLowerCase(Locale.ROOT);
+
+        List<String> digits = new ArrayList<>(2);
+        List<String> suffixes = new ArrayList<>(2);
+        Matcher matcher = AMOUNT.matcher(text);
+        while (matcher.find() && digits.size() < 2) {
+            digits.add(matcher.group(1));
+            suffixes.add(matcher.group(2));
+        }
+        if (digits.isEmpty()) return null;
+
+        // "80-100k", "12-18 LPA": the unit is written once and scales every bare amount of the range
+        String unit = suffixes.stream().filter(Objects::nonNull).reduce((first, last) -> last).orElse(null);
+        boolean lakhs = unit != null && unit.startsWith("l");
+        List<Long> amounts = new ArrayList<>(2);
+        for (int i = 0; i < digits.size(); i++) {
+            String suffix = suffixes.get(i);
+            if (suffix == null && !GROUPED.matcher(digits.get(i)).matches()) suffix = unit;
+            amounts.add(toAmount(digits.get(i), suffix));
+        }
+
+        long min = amounts.get(0);
+        long max = amounts.size() > 1 ? amounts.get(1) : min;
+        if (min > max) {
+            long tmp = min;
+            min = max;
+            max = tmp;
+        }
+
+        String currency = lakhs ? "INR" : currencyOf(text);
+        return new ParsedSalary(min, max, currency, periodOf(text, lakhs, max));
+    }
+
+    /** Sets the parsed salary fields of the job from its free-text salary, clearing them when unparseable. */
+    public static void applyTo(Job job) {
+        ParsedSalary parsed = parse(job.getSalary());
+        job.setSalaryMin(parsed != null ? parsed.min() : null);
+        job.setSalaryMax(parsed != null ? parsed.max() : null);
+        job.setSalaryCurrency(parsed != null ? parsed.currency() : null);
+        job.setSalaryPeriod(parsed != null ? parsed.period() : null);
+    }
+
+    public static long annualize(long amount, Job.SalaryPeriod period) {
+        return switch (period) {
+            case HOUR -> amount * 2080;
+            case DAY -> amount * 260;
+            case WEEK -> amount * 52;
+            case MONTH -> amount * 12;
+            case YEAR -> amount;
+        };
+    }
+
+    private static long toAmount(String digits, String suffix) {
+        String plain = GROUPED.matcher(digits).matches()
+                ? digits.replaceAll("[.,]", "")
+                : digits;
+        double value = Double.parseDouble(plain);
+        if (suffix != null) {
+            if (suffix.equals("k")) value *= 1_000;
+            else if (suffix.equals("m")) value *= 1_000_000;
+            else value *= 100_000;
+        }
+        return Math.round(value);
+    }
+
+    /** An explicit symbol wins over a code; codes only count as whole words ("entrepreneurial" is not EUR). */
+    private static String currencyOf(String text) {
+        Matcher symbol = SYMBOL.matcher(text);
+        if (symbol.find()) return SYMBOLS.get(symbol.group());
+        Matcher code = CODE.matcher(text);
+        return code.find() ? code.group(1).toUpperCase(Locale.ROOT) : null;
+    }
+
+    private static Job.SalaryPeriod periodOf(String text, boolean lakhs, long max) {
+        if (lakhs) return Job.SalaryPeriod.YEAR;
+        if (text.matches(".*(/\\s*h(ou)?r\\b|\\bper hour\\b|\\bhourly\\b|\\bhr\\b|/h\\b).*")) return Job.SalaryPeriod.HOUR;
+        if (text.matches(".*(/\\s*day\\b|\\bper day\\b|\\bdaily\\b).*")) return Job.SalaryPeriod.DAY;
+        if (text.matches(".*(/\\s*(week|wk)\\b|\\bper week\\b|\\bweekly\\b).*")) return Job.SalaryPeriod.WEEK;
+        if (text.matches(".*(/\\s*(month|mo)\\b|\\bper month\\b|\\bmonthly\\b|\\bpm\\b).*")) return Job.SalaryPeriod.MONTH;
+        if (text.matches(".*(/\\s*(year|yr)\\b|\\bper (year|annum)\\b|\\bannual(ly)?\\b|\\bp\\.?a\\.?\\b).*")) {
+            return Job.SalaryPeriod.YEAR;
+        }
+        // no explicit period: small numbers are hourly rates, everything else yearly
+        return max < 1000 ? Job.SalaryPeriod.HOUR : Job.SalaryPeriod.YEAR;
+    }
+}
@@ -0,0 +1,33 @@
+package com.hireflow.util;
+
+import java.util.Map;
+
+/**
+ * 64-bit SimHash fingerprints: documents sharing most of their weighted features get
+ * fingerprints a small Hamming distance apart.
+ */
+public final class SimHash {
+
+    private SimHash() {
+    }
+
+    public static long of(Map<String, Integer> weightedFeatures) {
+        long[] votes = new long[64];
+        for (Map.Entry<String, Integer> feature : weightedFeatures.entrySet()) {
+            long hash = Hashing.hash64(feature.getKey());
+            int weight = feature.getValue();
+            for (int bit = 0; bit < 64; bit++) {
+                votes[bit] += ((hash >>> bit) & 1) == 1 ? weight : -weight;
+            }
+        }
+        long fingerprint = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (votes[bit] > 0) fingerprint |= 1L << bit;
+        }
+        return fingerprint;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+}
@@ -0,0 +1,87 @@
+package com.hireflow.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key: the first caller runs the computation
+ * and every caller that arrives while it is in flight waits for and shares its result
+ * (or exception). Nothing is cached once the call completes.
+ */
+public final class SingleFlight<K, V> {
+
+    private static final int TRACKED_KEYS = 512;
+    private static final int TOP_KEYS = 20;
+
+    private final String name;
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder collapsed = new LongAdder();
+    // collapsed calls per key, for the most recently stampeded keys only
+    private final Cache<K, LongAdder> collapsedByKey = Caffeine.newBuilder().maximumSize(TRACKED_KEYS).build();
+
+    public SingleFlight(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public V execute(K key, Supplier<V> computation) {
+        calls.increment();
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            collapsed.increment();
+            collapsedByKey.get(key, k -> new LongAdder()).increment();
+            return await(existing);
+        }
+
+        try {
+            V value = computation.get();
+            inFlight.remove(key, mine);
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, mine);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Long> topKeys = new LinkedHashMap<>();
+        collapsedByKey.asMap().entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<K, LongAdder> e) -> e.getValue().sum()).reversed())
+                .limit(TOP_KEYS)
+                .forEach(e -> topKeys.put(String.valueOf(e.getKey()), e.getValue().sum()));
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("calls", calls.sum());
+        stats.put("collapsed", collapsed.sum());
+        stats.put("inFlight", inFlight.size());
+        stats.put("topCollapsedKeys", topKeys);
+        return stats;
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // rethrow the leader's exception as is, so callers see e.g. ResourceNotFoundException
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error cause) throw cause;
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.hireflow.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * GET /actuator/singleflight — calls and collapsed calls per coalescing group, with the hottest keys.
+ */
+@Component
+@Endpoint(id = "singleflight")
+@RequiredArgsConstructor
+public class SingleFlightEndpoint {
+
+    private final SingleFlightRegistry registry;
+
+    @ReadOperation
+    public Map<String, Object> stats() {
+        return registry.stats();
+    }
+}
@@ -0,0 +1,30 @@
+package com.hireflow.util;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Named {@link SingleFlight} groups, so their counters can be reported in one place.
+ */
+@Component
+public class SingleFlightRegistry {
+
+    private final Map<String, SingleFlight<?, ?>> flights = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <K, V> SingleFlight<K, V> get(String name) {
+        return (SingleFlight<K, V>) flights.computeIfAbsent(name, SingleFlight::new);
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        flights.values().stream()
+                .sorted(Comparator.comparing(SingleFlight::getName))
+                .forEach(flight -> stats.put(flight.getName(), flight.stats()));
+        return stats;
+    }
+}
@@ -0,0 +1,83 @@
+package com.hireflow.search;
+
+import com.hireflow.entity.Job;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.hireflow.search.TestJobs.job;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DuplicateJobIndexTest {
+
+    private static final String DESCRIPTION = "We are looking for a backend engineer to design, build and run the "
+            + "payment services behind our checkout. You will own APIs used by millions of shoppers, work "
+            + "closely with product and data teams, review code, mentor junior engineers and take part in an "
+            + "on-call rotation. Our stack is Kotlin, Spring Boot, PostgreSQL and Kafka on Kubernetes.";
+    private static final String REQUIREMENTS = "Five years of backend experience, strong SQL, experience with "
+            + "event-driven systems and a habit of writing tests.";
+
+    private final DuplicateJobIndex index = new DuplicateJobIndex("reject", 3);
+
+    @Test
+    void nearCopyOfAnActivePostingIsFound() {
+        load(job(1).title("Backend Engineer, Payments").description(DESCRIPTION).requirements(REQUIREMENTS).build());
+
+        assertThat(index.findDuplicate(1L, "Backend Engineer, Payments",
+                DESCRIPTION.replace("millions", "thousands"), REQUIREMENTS))
+                .hasValueSatisfying(duplicate -> {
+                    assertThat(duplicate.jobId()).isEqualTo(1L);
+                    assertThat(duplicate.distance()).isLessThanOrEqualTo(3);
+                });
+    }
+
+    @Test
+    void differentPostingIsNotADuplicate() {
+        load(job(1).title("Backend Engineer, Payments").description(DESCRIPTION).requirements(REQUIREMENTS).build());
+
+        assertThat(index.findDuplicate(1L, "Office Manager",
+                "Keep our Berlin office running: supplies, visitors, events and travel bookings.",
+                "Organised, friendly, fluent German and English.")).isEmpty();
+    }
+
+    @Test
+    void postingsOfOtherCompaniesAreIgnored() {
+        load(job(1).company(1L).title("Backend Engineer, Payments").description(DESCRIPTION)
+                .requirements(REQUIREMENTS).build());
+
+        assertThat(index.findDuplicate(2L, "Backend Engineer, Payments", DESCRIPTION, REQUIREMENTS)).isEmpty();
+    }
+
+    @Test
+    void closedOrDeletedPostingStopsCounting() {
+        JobDocument open = job(1).title("Backend Engineer, Payments").description(DESCRIPTION)
+                .requirements(REQUIREMENTS).build();
+        load(open);
+
+        index.onIndexUpdated(new JobIndexUpdatedEvent(open, job(1).title("Backend Engineer, Payments")
+                .description(DESCRIPTION).requirements(REQUIREMENTS).status(Job.JobStatus.CLOSED).build()));
+        assertThat(index.findDuplicate(1L, "Backend Engineer, Payments", DESCRIPTION, REQUIREMENTS)).isEmpty();
+
+        index.onIndexUpdated(new JobIndexUpdatedEvent(null, open));
+        index.onIndexUpdated(new JobIndexUpdatedEvent(open, null));
+        assertThat(index.findDuplicate(1L, "Backend Engineer, Payments", DESCRIPTION, REQUIREMENTS)).isEmpty();
+    }
+
+    @Test
+    void disabledPolicyFindsNothing() {
+        DuplicateJobIndex off = new DuplicateJobIndex("off", 3);
+        off.onIndexLoaded(new JobIndexLoadedEvent(List.of(job(1).description(DESCRIPTION).build())));
+
+        assertThat(off.findDuplicate(1L, "Job 1", DESCRIPTION, "")).isEmpty();
+    }
+
+    @Test
+    void distanceBeyondFingerprintBlocksIsRejected() {
+        assertThatThrownBy(() -> new DuplicateJobIndex("flag", 8)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void load(JobDocument... documents) {
+        index.onIndexLoaded(new JobIndexLoadedEvent(List.of(documents)));
+    }
+}
@@ -0,0 +1,51 @@
+package com.hireflow.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JobCursorTest {
+
+    @Test
+    void encodedCursorDecodesToItself() {
+        JobCursor cursor = JobCursor.of(LocalDateTime.of(2025, 3, 1, 9, 30), 42L);
+        assertThat(JobCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(JobCursor.decode(cursor.encode()).createdAt()).isEqualTo(LocalDateTime.of(2025, 3, 1, 9, 30));
+    }
+
+    @Test
+    void emptyTokenIsFirstPage() {
+        assertThat(JobCursor.decode(null)).isEqualTo(JobCursor.FIRST);
+        assertThat(JobCursor.decode("  ").isFirst()).isTrue();
+    }
+
+    @Test
+    void firstCursorHasNoCreatedAt() {
+        assertThat(JobCursor.FIRST.createdAt()).isNull();
+        assertThat(JobCursor.decode(JobCursor.FIRST.encode()).isFirst()).isTrue();
+    }
+
+    @Test
+    void firstCursorPrecedesEveryJob() {
+        assertThat(JobCursor.FIRST.precedes(Long.MAX_VALUE - 1, 1L)).isTrue();
+        assertThat(JobCursor.FIRST.precedes(0L, Long.MAX_VALUE - 1)).isTrue();
+    }
+
+    @Test
+    void precedesBreaksTiesByJobId() {
+        JobCursor cursor = new JobCursor(1_000L, 10L);
+        assertThat(cursor.precedes(999L, 99L)).isTrue();
+        assertThat(cursor.precedes(1_000L, 9L)).isTrue();
+        assertThat(cursor.precedes(1_000L, 10L)).isFalse();
+        assertThat(cursor.precedes(1_001L, 1L)).isFalse();
+    }
+
+    @Test
+    void malformedTokenIsRejected() {
+        assertThatThrownBy(() -> JobCursor.decode("not a cursor")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JobCursor.decode("MTIz")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,69 @@
+package com.hireflow.search;
+
+import com.hireflow.entity.Job;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.hireflow.search.TestJobs.job;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobIndexSnapshotStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void writtenSnapshotReadsBackUnchanged() throws IOException {
+        JobIndexSnapshotStore store = new JobIndexSnapshotStore(dir.toString());
+        List<JobDocument> documents = List.of(
+                job(1).title("Backend Engineer").description("Kotlin services").requirements("5 years")
+                        .coordinates(52.52, 13.405).skills("Kotlin", "PostgreSQL")
+                        .salary(70_000, 90_000, "EUR", Job.SalaryPeriod.YEAR)
+                        .deadline(LocalDateTime.of(2025, 6, 30, 0, 0)).build(),
+                job(2).title("Barista").description(null).requirements(null).location("Lisbon")
+                        .type(Job.JobType.PART_TIME).build());
+        LocalDateTime watermark = LocalDateTime.of(2025, 3, 2, 12, 0);
+
+        store.write(watermark, documents);
+        Optional<JobIndexSnapshotStore.Snapshot> snapshot = store.read();
+
+        assertThat(snapshot).isPresent();
+        assertThat(snapshot.get().watermark()).isEqualTo(watermark);
+        assertThat(snapshot.get().documents()).isEqualTo(documents);
+    }
+
+    @Test
+    void emptyIndexHasNoWatermark() throws IOException {
+        JobIndexSnapshotStore store = new JobIndexSnapshotStore(dir.toString());
+        store.write(null, List.of());
+
+        assertThat(store.read()).hasValueSatisfying(snapshot -> {
+            assertThat(snapshot.watermark()).isNull();
+            assertThat(snapshot.documents()).isEmpty();
+        });
+    }
+
+    @Test
+    void missingSegmentReadsAsNoSnapshot() {
+        assertThat(new JobIndexSnapshotStore(dir.resolve("absent").toString()).read()).isEmpty();
+    }
+
+    @Test
+    void corruptSegmentIsIgnored() throws IOException {
+        JobIndexSnapshotStore store = new JobIndexSnapshotStore(dir.toString());
+        store.write(LocalDateTime.of(2025, 3, 2, 12, 0), List.of(job(1).build()));
+        Path segment = dir.resolve("jobs.seg");
+        byte[] bytes = Files.readAllBytes(segment);
+        bytes[bytes.length / 2] ^= 0x5a;
+        Files.write(segment, bytes);
+
+        assertThat(store.read()).isEmpty();
+    }
+}
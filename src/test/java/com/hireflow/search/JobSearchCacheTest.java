@@ -0,0 +1,89 @@
+package com.hireflow.search;
+
+import com.hireflow.dto.response.ApiResponse;
+import com.hireflow.entity.Job;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.hireflow.search.TestJobs.job;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobSearchCacheTest {
+
+    private final JobSearchCache cache = new JobSearchCache(1 << 20, 60);
+    private final AtomicInteger computations = new AtomicInteger();
+
+    @Test
+    void pageIsCachedUntilAJobItCouldShowChanges() {
+        JobSearchCache.Key key = JobSearchCache.Key.of(criteria(Job.JobCategory.ENGINEERING, false), true);
+
+        cache.get(key, loader());
+        cache.get(key, loader());
+        assertThat(computations).hasValue(1);
+
+        cache.onIndexUpdated(new JobIndexUpdatedEvent(null, job(1).category(Job.JobCategory.DESIGN).build()));
+        cache.get(key, loader());
+        assertThat(computations).hasValue(1);
+
+        cache.onIndexUpdated(new JobIndexUpdatedEvent(null, job(2).category(Job.JobCategory.ENGINEERING).build()));
+        cache.get(key, loader());
+        assertThat(computations).hasValue(2);
+    }
+
+    @Test
+    void jobLeavingAPageInvalidatesIt() {
+        JobSearchCache.Key key = JobSearchCache.Key.of(criteria(Job.JobCategory.ENGINEERING, false), true);
+        cache.get(key, loader());
+
+        cache.onIndexUpdated(new JobIndexUpdatedEvent(job(1).build(), null));
+        cache.get(key, loader());
+
+        assertThat(computations).hasValue(2);
+    }
+
+    @Test
+    void facetedPageIsDroppedForJobsMissingOnlyAFacetedFilter() {
+        JobSearchCache.Key key = JobSearchCache.Key.of(criteria(Job.JobCategory.ENGINEERING, true), true);
+        cache.get(key, loader());
+
+        cache.onIndexUpdated(new JobIndexUpdatedEvent(null, job(1).category(Job.JobCategory.DESIGN).build()));
+        cache.get(key, loader());
+
+        assertThat(computations).hasValue(2);
+    }
+
+    @Test
+    void pageComputedDuringAnIndexUpdateIsNotCached() {
+        JobSearchCache.Key key = JobSearchCache.Key.of(criteria(Job.JobCategory.ENGINEERING, false), true);
+        Supplier<JobSearchCache.Computed> racing = () -> cache.compute(() -> {
+            computations.incrementAndGet();
+            // an unrelated job still moves the generation on
+            cache.onIndexUpdated(new JobIndexUpdatedEvent(null, job(1).category(Job.JobCategory.DESIGN).build()));
+            return page();
+        });
+
+        cache.get(key, racing);
+        cache.get(key, loader());
+
+        assertThat(computations).hasValue(2);
+    }
+
+    private Supplier<JobSearchCache.Computed> loader() {
+        return () -> cache.compute(() -> {
+            computations.incrementAndGet();
+            return page();
+        });
+    }
+
+    private static ApiResponse.PageResponse<ApiResponse.JobResponse> page() {
+        return ApiResponse.PageResponse.<ApiResponse.JobResponse>builder().content(List.of()).build();
+    }
+
+    private static JobSearchCriteria criteria(Job.JobCategory category, boolean facets) {
+        return new JobSearchCriteria(null, null, null, category, null, null,
+                null, false, null, null, null, null, 0, 10, null, facets);
+    }
+}
@@ -0,0 +1,134 @@
+package com.hireflow.search;
+
+import com.hireflow.entity.Job;
+import com.hireflow.entity.User;
+import com.hireflow.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.SliceImpl;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.hireflow.search.TestJobs.job;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobSearchIndexTest {
+
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final List<Object> events = new ArrayList<>();
+    private JobSearchIndex index;
+
+    @BeforeEach
+    void setUp(@TempDir Path dir) {
+        when(jobRepository.findByStatusAndIdGreaterThan(any(), anyLong(), any())).thenReturn(new SliceImpl<>(List.of()));
+        index = new JobSearchIndex(jobRepository, new JobIndexSnapshotStore(dir.toString()), events::add, 300);
+        index.load();
+        events.clear();
+    }
+
+    @Test
+    void textQueryRanksTitleMatchesFirst() {
+        index(job(1).title("Product Designer").description("Works with our Java team"));
+        index(job(2).title("Senior Java Developer"));
+        index(job(3).title("Accountant"));
+
+        assertThat(index.search(criteria("java")).jobIds()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void filtersIntersectAndFacetsIgnoreTheirOwnFilter() {
+        index(job(1).type(Job.JobType.FULL_TIME).location("Berlin"));
+        index(job(2).type(Job.JobType.PART_TIME).location("Berlin"));
+        index(job(3).type(Job.JobType.FULL_TIME).location("Munich"));
+
+        JobSearchCriteria criteria = new JobSearchCriteria(null, Job.JobType.FULL_TIME, null, null, "berlin", null,
+                null, false, null, null, null, null, 0, 10, null, true);
+        JobSearchResult result = index.search(criteria);
+
+        assertThat(result.jobIds()).containsExactly(1L);
+        assertThat(result.facets().get("type")).containsEntry("FULL_TIME", 1L).containsEntry("PART_TIME", 1L);
+        assertThat(result.facets().get("location")).containsEntry("Berlin", 1L).containsEntry("Munich", 1L);
+    }
+
+    @Test
+    void salaryFilterMatchesOverlappingAnnualRanges() {
+        index(job(1).salary(50_000, 60_000, "EUR", Job.SalaryPeriod.YEAR));
+        index(job(2).salary(40, 50, "EUR", Job.SalaryPeriod.HOUR));
+        index(job(3));
+
+        JobSearchCriteria criteria = new JobSearchCriteria(null, null, null, null, null, null,
+                null, false, 70_000L, null, null, null, 0, 10, null, false);
+
+        assertThat(index.search(criteria).jobIds()).containsExactly(2L);
+    }
+
+    @Test
+    void cursorPagesVisitEveryJobOnceNewestFirst() {
+        for (long id = 1; id <= 5; id++) {
+            index(job(id).createdAt(TestJobs.BASE_TIME));
+        }
+
+        List<Long> seen = new ArrayList<>();
+        JobCursor cursor = JobCursor.FIRST;
+        while (cursor != null) {
+            JobSearchResult page = index.search(new JobSearchCriteria(null, null, null, null, null, null,
+                    null, false, null, null, null, null, 0, 2, cursor, false));
+            seen.addAll(page.jobIds());
+            cursor = page.nextCursor();
+        }
+
+        assertThat(seen).containsExactly(5L, 4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    void closedJobLeavesIndexAndIsPublished() {
+        JobDocument open = job(1).title("Java Developer").build();
+        index(open);
+        JobDocument closed = job(1).title("Java Developer").status(Job.JobStatus.CLOSED).build();
+        index.onJobChanged(new JobChangedEvent(1L, 1L, closed));
+
+        assertThat(index.search(criteria("java")).jobIds()).isEmpty();
+        assertThat(events).last().isEqualTo(new JobIndexUpdatedEvent(open, closed));
+    }
+
+    @Test
+    void refreshAppliesOnlyJobsThatChangedElsewhere() {
+        index(job(1).title("Java Developer"));
+        User company = User.builder().id(1L).name("Acme").build();
+        Job remote = Job.builder().id(2L).title("Kotlin Developer").description("").requirements("")
+                .location("Berlin").type(Job.JobType.FULL_TIME).level(Job.JobLevel.MID_LEVEL)
+                .category(Job.JobCategory.ENGINEERING).skills(List.of()).company(company).build();
+        remote.setCreatedAt(TestJobs.BASE_TIME.plusHours(1));
+        remote.setUpdatedAt(TestJobs.BASE_TIME.plusHours(1));
+        when(jobRepository.findByUpdatedAtGreaterThanEqualAndIdGreaterThan(any(), anyLong(), any()))
+                .thenReturn(new SliceImpl<>(List.of(remote)));
+        events.clear();
+
+        index.refresh();
+        assertThat(index.search(criteria("kotlin")).jobIds()).containsExactly(2L);
+        assertThat(events).containsExactly(new JobIndexUpdatedEvent(null, JobDocument.from(remote)));
+
+        index.refresh();
+        assertThat(events).hasSize(1);
+    }
+
+    private void index(TestJobs job) {
+        index(job.build());
+    }
+
+    private void index(JobDocument document) {
+        index.onJobChanged(new JobChangedEvent(document.id(), document.companyId(), document));
+    }
+
+    private static JobSearchCriteria criteria(String search) {
+        return new JobSearchCriteria(search, null, null, null, null, null,
+                null, false, null, null, null, null, 0, 10, null, false);
+    }
+}
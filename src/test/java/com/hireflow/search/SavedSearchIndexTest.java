@@ -0,0 +1,106 @@
+package com.hireflow.search;
+
+import com.hireflow.entity.Job;
+import com.hireflow.entity.SavedSearch;
+import com.hireflow.entity.User;
+import com.hireflow.repository.SavedSearchRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.hireflow.search.TestJobs.job;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SavedSearchIndexTest {
+
+    private static final User SEEKER = User.builder().id(10L).name("Seeker").build();
+
+    private final SavedSearchRepository repository = mock(SavedSearchRepository.class);
+    private final SavedSearchIndex index = new SavedSearchIndex(repository, 300);
+
+    @Test
+    void keywordSearchMatchesJobsCarryingEveryKeyword() {
+        load(search(1).search("kotlin backend").build());
+
+        assertThat(index.percolate(null, job(1).title("Kotlin Backend Engineer").build()))
+                .containsExactly(new SavedSearchIndex.Match(1L, 10L));
+        assertThat(index.percolate(null, job(2).title("Kotlin Android Engineer").build())).isEmpty();
+    }
+
+    @Test
+    void jobThatAlreadyMatchedIsNotReportedAgain() {
+        load(search(1).search("kotlin").build());
+        JobDocument before = job(1).title("Kotlin Engineer").build();
+        JobDocument after = job(1).title("Senior Kotlin Engineer").build();
+
+        assertThat(index.percolate(before, after)).isEmpty();
+        assertThat(index.percolate(job(1).title("Java Engineer").build(), after)).hasSize(1);
+        assertThat(index.percolate(job(1).title("Kotlin Engineer").status(Job.JobStatus.CLOSED).build(), after))
+                .hasSize(1);
+    }
+
+    @Test
+    void inactiveJobMatchesNothing() {
+        load(search(1).search("kotlin").build());
+
+        assertThat(index.percolate(null, job(1).title("Kotlin Engineer").status(Job.JobStatus.DRAFT).build())).isEmpty();
+    }
+
+    @Test
+    void unanchoredSearchIsCheckedAgainstEveryJob() {
+        load(search(1).location("Berl").build(),
+                search(2).category(Job.JobCategory.DESIGN).location("Berlin").build());
+
+        assertThat(index.percolate(null, job(1).location("Berlin").build()))
+                .containsExactly(new SavedSearchIndex.Match(1L, 10L));
+        assertThat(index.percolate(null, job(2).location("Paris").build())).isEmpty();
+        assertThat(index.percolate(null, job(3).location("Berlin").category(Job.JobCategory.DESIGN).build()))
+                .extracting(SavedSearchIndex.Match::savedSearchId)
+                .containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void skillSearchesHonourAnyAndAll() {
+        load(search(1).skills(List.of("Kotlin", "Go")).matchAllSkills(false).build(),
+                search(2).skills(List.of("Kotlin", "Go")).matchAllSkills(true).build());
+
+        assertThat(index.percolate(null, job(1).skills("kotlin").build()))
+                .extracting(SavedSearchIndex.Match::savedSearchId).containsExactly(1L);
+        assertThat(index.percolate(null, job(2).skills("Kotlin", "Go").build()))
+                .extracting(SavedSearchIndex.Match::savedSearchId).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void deletedSearchStopsMatching() {
+        load(search(1).search("kotlin").build());
+        index.onSavedSearchChanged(SavedSearchChangedEvent.deleted(1L));
+
+        assertThat(index.percolate(null, job(1).title("Kotlin Engineer").build())).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void refreshRegistersRemoteSearchesAndDropsDeletedOnes() {
+        load(search(1).search("kotlin").build());
+        when(repository.findCreatedSinceWithSkills(any())).thenReturn(List.of(search(2).search("rust").build()));
+        when(repository.findAllIds()).thenReturn(List.of(2L));
+
+        index.refresh();
+
+        assertThat(index.percolate(null, job(1).title("Kotlin Engineer").build())).isEmpty();
+        assertThat(index.percolate(null, job(2).title("Rust Engineer").build()))
+                .containsExactly(new SavedSearchIndex.Match(2L, 10L));
+    }
+
+    private void load(SavedSearch... searches) {
+        when(repository.findAllWithSkills()).thenReturn(List.of(searches));
+        index.onIndexLoaded(new JobIndexLoadedEvent(List.of(job(100).build())));
+    }
+
+    private static SavedSearch.SavedSearchBuilder search(long id) {
+        return SavedSearch.builder().id(id).user(SEEKER).name("Search " + id).skills(List.of());
+    }
+}
@@ -0,0 +1,62 @@
+package com.hireflow.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.hireflow.search.TestJobs.job;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimilarJobsIndexTest {
+
+    private static final String DATA_DESCRIPTION = "Build and maintain batch and streaming data pipelines that feed "
+            + "our analytics warehouse, model raw events into clean tables, and work with analysts on metrics "
+            + "definitions and data quality checks.";
+
+    private final SimilarJobsIndex index = new SimilarJobsIndex();
+
+    private final JobDocument dataEngineer = job(1).title("Data Engineer").description(DATA_DESCRIPTION)
+            .skills("Python", "SQL", "Airflow", "Spark").build();
+    private final JobDocument seniorDataEngineer = job(2).title("Senior Data Engineer")
+            .description(DATA_DESCRIPTION.replace("analysts", "analytics engineers"))
+            .skills("Python", "SQL", "Airflow", "Spark", "dbt").build();
+    private final JobDocument nurse = job(3).title("Night Shift Nurse")
+            .description("Care for patients on the surgical ward during night shifts, administer medication "
+                    + "and keep accurate charts.")
+            .skills("Patient care", "Medication").build();
+
+    @Test
+    void nearCopyRanksFirstAndUnrelatedJobIsLeftOut() {
+        index.onIndexLoaded(new JobIndexLoadedEvent(List.of(dataEngineer, seniorDataEngineer, nurse)));
+
+        List<SimilarJobsIndex.SimilarJob> similar = index.similar(dataEngineer, 5);
+
+        assertThat(similar).extracting(SimilarJobsIndex.SimilarJob::jobId).containsExactly(2L);
+        assertThat(similar.get(0).similarity()).isGreaterThan(0.5);
+    }
+
+    @Test
+    void jobIsNotSimilarToItself() {
+        index.onIndexLoaded(new JobIndexLoadedEvent(List.of(dataEngineer)));
+
+        assertThat(index.similar(dataEngineer, 5)).isEmpty();
+    }
+
+    @Test
+    void removedJobIsNoLongerSuggested() {
+        index.onIndexLoaded(new JobIndexLoadedEvent(List.of(dataEngineer, seniorDataEngineer)));
+
+        index.onIndexUpdated(new JobIndexUpdatedEvent(seniorDataEngineer, null));
+
+        assertThat(index.similar(dataEngineer, 5)).isEmpty();
+    }
+
+    @Test
+    void jobAddedAfterLoadIsFound() {
+        index.onIndexLoaded(new JobIndexLoadedEvent(List.of(dataEngineer)));
+
+        index.onIndexUpdated(new JobIndexUpdatedEvent(null, seniorDataEngineer));
+
+        assertThat(index.similar(dataEngineer, 5)).extracting(SimilarJobsIndex.SimilarJob::jobId).containsExactly(2L);
+    }
+}
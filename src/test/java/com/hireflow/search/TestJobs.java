@@ -0,0 +1,129 @@
+package com.hireflow.search;
+
+import com.hireflow.entity.Job;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/** Builds {@link JobDocument}s for index tests; unset fields get plain defaults. */
+final class TestJobs {
+
+    static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    private final long id;
+    private String title;
+    private String description = "";
+    private String requirements = "";
+    private String location = "Berlin";
+    private Double latitude;
+    private Double longitude;
+    private Job.JobType type = Job.JobType.FULL_TIME;
+    private Job.JobLevel level = Job.JobLevel.MID_LEVEL;
+    private Job.JobCategory category = Job.JobCategory.ENGINEERING;
+    private Job.JobStatus status = Job.JobStatus.ACTIVE;
+    private List<String> skills = List.of();
+    private long companyId = 1L;
+    private Long salaryMin;
+    private Long salaryMax;
+    private String salaryCurrency;
+    private Job.SalaryPeriod salaryPeriod;
+    private LocalDateTime deadline;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    private TestJobs(long id) {
+        this.id = id;
+        this.title = "Job " + id;
+        this.createdAt = BASE_TIME.plusMinutes(id);
+        this.updatedAt = createdAt;
+    }
+
+    static TestJobs job(long id) {
+        return new TestJobs(id);
+    }
+
+    TestJobs title(String title) {
+        this.title = title;
+        return this;
+    }
+
+    TestJobs description(String description) {
+        this.description = description;
+        return this;
+    }
+
+    TestJobs requirements(String requirements) {
+        this.requirements = requirements;
+        return this;
+    }
+
+    TestJobs location(String location) {
+        this.location = location;
+        return this;
+    }
+
+    TestJobs coordinates(double latitude, double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+        return this;
+    }
+
+    TestJobs type(Job.JobType type) {
+        this.type = type;
+        return this;
+    }
+
+    TestJobs level(Job.JobLevel level) {
+        this.level = level;
+        return this;
+    }
+
+    TestJobs category(Job.JobCategory category) {
+        this.category = category;
+        return this;
+    }
+
+    TestJobs status(Job.JobStatus status) {
+        this.status = status;
+        return this;
+    }
+
+    TestJobs skills(String... skills) {
+        this.skills = List.of(skills);
+        return this;
+    }
+
+    TestJobs company(long companyId) {
+        this.companyId = companyId;
+        return this;
+    }
+
+    TestJobs salary(long min, long max, String currency, Job.SalaryPeriod period) {
+        this.salaryMin = min;
+        this.salaryMax = max;
+        this.salaryCurrency = currency;
+        this.salaryPeriod = period;
+        return this;
+    }
+
+    TestJobs deadline(LocalDateTime deadline) {
+        this.deadline = deadline;
+        return this;
+    }
+
+    TestJobs createdAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+        return this;
+    }
+
+    TestJobs updatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+        return this;
+    }
+
+    JobDocument build() {
+        return new JobDocument(id, title, description, requirements, location, latitude, longitude,
+                type, level, category, status, skills, companyId, "Company " + companyId,
+                salaryMin, salaryMax, salaryCurrency, salaryPeriod, deadline, createdAt, updatedAt);
+    }
+}
@@ -0,0 +1,41 @@
+package com.hireflow.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CountMinSketchTest {
+
+    private static final int WIDTH = 1024;
+
+    @Test
+    void estimatesNeverUndercountAndStayWithinTheErrorBound() {
+        CountMinSketch sketch = new CountMinSketch(4, WIDTH);
+        int keys = 2_000;
+        long total = 0;
+        for (int i = 0; i < keys; i++) {
+            for (int n = 0; n <= i % 50; n++) {
+                sketch.add("key-" + i);
+                total++;
+            }
+        }
+        total += keys;
+
+        long bound = 2 * total / WIDTH;
+        for (int i = 0; i < keys; i++) {
+            long actual = i % 50 + 2;
+            long estimate = sketch.add("key-" + i);
+            assertThat(estimate).isBetween(actual, actual + bound);
+        }
+    }
+
+    @Test
+    void lonelyKeyIsCountedExactly() {
+        CountMinSketch sketch = new CountMinSketch(4, WIDTH);
+        for (int i = 0; i < 9; i++) {
+            sketch.add("only");
+        }
+
+        assertThat(sketch.add("only")).isEqualTo(10);
+    }
+}
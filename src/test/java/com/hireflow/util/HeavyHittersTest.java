@@ -0,0 +1,44 @@
+package com.hireflow.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HeavyHittersTest {
+
+    private static final int WIDTH = 1024;
+
+    @Test
+    void frequentKeysSurfaceAboveALongTail() {
+        HeavyHitters hitters = new HeavyHitters(10, WIDTH);
+        for (int i = 0; i < 20_000; i++) {
+            hitters.offer("rare-" + i);
+            if (i % 10 == 0) {
+                for (int hot = 0; hot < 5; hot++) {
+                    hitters.offer("hot-" + hot);
+                }
+            }
+        }
+
+        Map<String, Long> top = hitters.top(5);
+
+        assertThat(top).containsOnlyKeys("hot-0", "hot-1", "hot-2", "hot-3", "hot-4");
+        long bound = 2 * hitters.total() / WIDTH;
+        assertThat(top.values()).allSatisfy(count -> assertThat(count).isBetween(2_000L, 2_000L + bound));
+    }
+
+    @Test
+    void topIsOrderedByCountAndLimited() {
+        HeavyHitters hitters = new HeavyHitters(10, WIDTH);
+        for (int key = 1; key <= 4; key++) {
+            for (int n = 0; n < key * 10; n++) {
+                hitters.offer("key-" + key);
+            }
+        }
+
+        assertThat(hitters.top(3).keySet()).containsExactly("key-4", "key-3", "key-2");
+        assertThat(hitters.total()).isEqualTo(100);
+    }
+}
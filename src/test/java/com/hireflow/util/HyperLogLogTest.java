@@ -0,0 +1,73 @@
+package com.hireflow.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HyperLogLogTest {
+
+    // about three standard errors of a 1024-register sketch
+    private static final double TOLERANCE = 0.10;
+
+    @Test
+    void distinctCountIsWithinTheStandardError() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 100_000; i++) {
+            sketch.add("viewer-" + i);
+        }
+
+        assertThat((double) sketch.estimate()).isCloseTo(100_000, within(100_000 * TOLERANCE));
+    }
+
+    @Test
+    void repeatedValuesAreCountedOnce() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 1_000; i++) {
+                sketch.add("viewer-" + i);
+            }
+        }
+
+        assertThat((double) sketch.estimate()).isCloseTo(1_000, within(1_000 * TOLERANCE));
+    }
+
+    @Test
+    void smallCountsAreNearlyExact() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 20; i++) {
+            sketch.add("viewer-" + i);
+        }
+
+        assertThat(sketch.estimate()).isBetween(19L, 21L);
+    }
+
+    @Test
+    void mergedSketchesCountTheUnion() {
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        for (int i = 0; i < 30_000; i++) {
+            first.add("viewer-" + i);
+        }
+        for (int i = 20_000; i < 50_000; i++) {
+            second.add("viewer-" + i);
+        }
+
+        first.merge(second.toBytes());
+
+        assertThat((double) first.estimate()).isCloseTo(50_000, within(50_000 * TOLERANCE));
+    }
+
+    @Test
+    void serializedSketchRestoresTheSameEstimate() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 5_000; i++) {
+            sketch.add("viewer-" + i);
+        }
+
+        byte[] bytes = sketch.toBytes();
+
+        assertThat(bytes).hasSize(HyperLogLog.REGISTERS);
+        assertThat(HyperLogLog.fromBytes(bytes).estimate()).isEqualTo(sketch.estimate());
+    }
+}
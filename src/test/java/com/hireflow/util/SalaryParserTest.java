@@ -0,0 +1,88 @@
+package com.hireflow.util;
+
+import com.hireflow.entity.Job;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SalaryParserTest {
+
+    @Test
+    void plainRange() {
+        SalaryParser.ParsedSalary parsed = SalaryParser.parse("$120,000 – $160,000");
+        assertThat(parsed.min()).isEqualTo(120_000);
+        assertThat(parsed.max()).isEqualTo(160_000);
+        assertThat(parsed.currency()).isEqualTo("USD");
+        assertThat(parsed.period()).isEqualTo(Job.SalaryPeriod.YEAR);
+    }
+
+    @Test
+    void thousandsSuffixScalesWholeRange() {
+        SalaryParser.ParsedSalary parsed = SalaryParser.parse("80-100k EUR");
+        assertThat(parsed.min()).isEqualTo(80_000);
+        assertThat(parsed.max()).isEqualTo(100_000);
+        assertThat(parsed.currency()).isEqualTo("EUR");
+    }
+
+    @Test
+    void lpaScalesBothBounds() {
+        SalaryParser.ParsedSalary parsed = SalaryParser.parse("12-18 LPA");
+        assertThat(parsed.min()).isEqualTo(1_200_000);
+        assertThat(parsed.max()).isEqualTo(1_800_000);
+        assertThat(parsed.currency()).isEqualTo("INR");
+        assertThat(parsed.period()).isEqualTo(Job.SalaryPeriod.YEAR);
+    }
+
+    @Test
+    void lakhsScalesBothBounds() {
+        SalaryParser.ParsedSalary parsed = SalaryParser.parse("8-12 lakhs");
+        assertThat(parsed.min()).isEqualTo(800_000);
+        assertThat(parsed.max()).isEqualTo(1_200_000);
+        assertThat(parsed.currency()).isEqualTo("INR");
+    }
+
+    @Test
+    void groupedAmountIsNotScaledByRangeUnit() {
+        SalaryParser.ParsedSalary parsed = SalaryParser.parse("$50,000 - 60k");
+        assertThat(parsed.min()).isEqualTo(50_000);
+        assertThat(parsed.max()).isEqualTo(60_000);
+    }
+
+    @Test
+    void currencyCodeInsideWordIsIgnored() {
+        assertThat(SalaryParser.parse("$100k + entrepreneurial bonus").currency()).isEqualTo("USD");
+        assertThat(SalaryParser.parse("$90k-$120k, academic").currency()).isEqualTo("USD");
+    }
+
+    @Test
+    void symbolWinsOverLaterCode() {
+        assertThat(SalaryParser.parse("£60k, paid in EUR on request").currency()).isEqualTo("GBP");
+    }
+
+    @Test
+    void prefixedDollarSymbols() {
+        assertThat(SalaryParser.parse("C$90,000").currency()).isEqualTo("CAD");
+        assertThat(SalaryParser.parse("CA$90,000").currency()).isEqualTo("CAD");
+        assertThat(SalaryParser.parse("A$90,000").currency()).isEqualTo("AUD");
+    }
+
+    @Test
+    void codeAsWholeWord() {
+        assertThat(SalaryParser.parse("90000 CHF per year").currency()).isEqualTo("CHF");
+        assertThat(SalaryParser.parse("90000").currency()).isNull();
+    }
+
+    @Test
+    void hourlyRate() {
+        SalaryParser.ParsedSalary parsed = SalaryParser.parse("£40/hr");
+        assertThat(parsed.min()).isEqualTo(40);
+        assertThat(parsed.period()).isEqualTo(Job.SalaryPeriod.HOUR);
+        assertThat(parsed.annualMin()).isEqualTo(40 * 2080);
+    }
+
+    @Test
+    void noAmount() {
+        assertThat(SalaryParser.parse("Competitive")).isNull();
+        assertThat(SalaryParser.parse(null)).isNull();
+    }
+}
@@ -0,0 +1,45 @@
+package com.hireflow.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimHashTest {
+
+    @Test
+    void equalFeaturesGiveEqualFingerprints() {
+        assertThat(SimHash.of(features("doc", 0, 60))).isEqualTo(SimHash.of(features("doc", 0, 60)));
+    }
+
+    @Test
+    void smallEditMovesFewBits() {
+        Map<String, Integer> edited = features("doc", 0, 60);
+        edited.remove("doc-7");
+        edited.put("other-7", 1);
+
+        assertThat(SimHash.distance(SimHash.of(features("doc", 0, 60)), SimHash.of(edited))).isLessThanOrEqualTo(6);
+    }
+
+    @Test
+    void unrelatedDocumentsAreFarApart() {
+        assertThat(SimHash.distance(SimHash.of(features("doc", 0, 60)), SimHash.of(features("other", 0, 60))))
+                .isGreaterThan(16);
+    }
+
+    @Test
+    void distanceCountsDifferingBits() {
+        assertThat(SimHash.distance(0b1011L, 0b0001L)).isEqualTo(2);
+        assertThat(SimHash.distance(0L, -1L)).isEqualTo(64);
+    }
+
+    private static Map<String, Integer> features(String prefix, int from, int to) {
+        Map<String, Integer> features = new HashMap<>();
+        for (int i = from; i < to; i++) {
+            features.put(prefix + "-" + i, 1);
+        }
+        return features;
+    }
+}